@@ -0,0 +1,166 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2021, Ondrej Fischer
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package fluent.validation;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * Aho-Corasick automaton for simultaneous search of multiple substrings in a single pass of the text.
+ * The automaton is immutable once built, so it can be shared by multiple threads.
+ */
+final class AhoCorasick {
+
+    private static final int[] NONE = {};
+
+    private final String[] needles;
+    private final char[][] labels;
+    private final int[][] targets;
+    private final int[] fail;
+    private final int[][] outputs;
+
+    AhoCorasick(String... needles) {
+        this.needles = needles.clone();
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<List<Integer>> terminals = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        terminals.add(new ArrayList<>());
+        for(int i = 0; i < this.needles.length; i++) {
+            int state = 0;
+            for(char c : this.needles[i].toCharArray()) {
+                Integer next = trie.get(state).get(c);
+                if(next == null) {
+                    next = trie.size();
+                    trie.get(state).put(c, next);
+                    trie.add(new TreeMap<>());
+                    terminals.add(new ArrayList<>());
+                }
+                state = next;
+            }
+            terminals.get(state).add(i);
+        }
+        int size = trie.size();
+        labels = new char[size][];
+        targets = new int[size][];
+        for(int state = 0; state < size; state++) {
+            labels[state] = new char[trie.get(state).size()];
+            targets[state] = new int[trie.get(state).size()];
+            int i = 0;
+            for(Map.Entry<Character, Integer> transition : trie.get(state).entrySet()) {
+                labels[state][i] = transition.getKey();
+                targets[state][i++] = transition.getValue();
+            }
+        }
+        fail = new int[size];
+        outputs = new int[size][];
+        outputs[0] = toArray(terminals.get(0), NONE);
+        Queue<Integer> queue = new ArrayDeque<>();
+        for(int child : targets[0]) {
+            queue.add(child);
+        }
+        while(!queue.isEmpty()) {
+            int state = queue.remove();
+            outputs[state] = toArray(terminals.get(state), outputs[fail[state]]);
+            for(int i = 0; i < labels[state].length; i++) {
+                int child = targets[state][i];
+                fail[child] = state == 0 ? 0 : next(fail[state], labels[state][i]);
+                queue.add(child);
+            }
+        }
+    }
+
+    private static int[] toArray(List<Integer> own, int[] inherited) {
+        if(own.isEmpty()) return inherited;
+        int[] array = new int[own.size() + inherited.length];
+        for(int i = 0; i < own.size(); i++) {
+            array[i] = own.get(i);
+        }
+        System.arraycopy(inherited, 0, array, own.size(), inherited.length);
+        return array;
+    }
+
+    private int next(int state, char c) {
+        while(true) {
+            char[] stateLabels = labels[state];
+            int low = 0;
+            int high = stateLabels.length - 1;
+            while(low <= high) {
+                int middle = (low + high) >>> 1;
+                if(stateLabels[middle] < c) low = middle + 1;
+                else if(stateLabels[middle] > c) high = middle - 1;
+                else return targets[state][middle];
+            }
+            if(state == 0) return 0;
+            state = fail[state];
+        }
+    }
+
+    int size() {
+        return needles.length;
+    }
+
+    String needle(int index) {
+        return needles[index];
+    }
+
+    /**
+     * Find needles contained in the text.
+     *
+     * @param text Text to search.
+     * @param all If true, search stops when all needles are found, otherwise it stops on the first found needle.
+     * @return Set of indexes of found needles.
+     */
+    BitSet find(CharSequence text, boolean all) {
+        BitSet found = new BitSet(needles.length);
+        int remaining = mark(outputs[0], found, needles.length);
+        int length = text.length();
+        for(int i = 0, state = 0; i < length && remaining > 0 && (all || remaining == needles.length); i++) {
+            state = next(state, text.charAt(i));
+            remaining = mark(outputs[state], found, remaining);
+        }
+        return found;
+    }
+
+    private static int mark(int[] output, BitSet found, int remaining) {
+        for(int index : output) {
+            if(!found.get(index)) {
+                found.set(index);
+                remaining--;
+            }
+        }
+        return remaining;
+    }
+
+}
@@ -34,12 +34,11 @@ import fluent.validation.result.ResultFactory;
 import fluent.validation.result.TableAggregator;
 
 import java.util.*;
-import java.util.stream.IntStream;
 
 import static java.util.stream.Collectors.*;
 import static java.util.stream.IntStream.range;
 
-final class AnyOrderCheck<D> implements Check<Iterator<D>> {
+final class AnyOrderCheck<D> implements SequenceCheck<D> {
 
     private final String elementName;
     private final ArrayList<Check<? super D>> checks;
@@ -61,31 +60,72 @@ final class AnyOrderCheck<D> implements Check<Iterator<D>> {
     }
 
     @Override
-    public Result evaluate(Iterator<D> data, ResultFactory factory) {
-        if(data == null) {
-            return factory.expectation(this, false);
-        }
-        Set<D> free = new HashSet<>();
-        TableAggregator<D> resultBuilder = factory.table(this, checks);
-        Map<D, List<Check<? super D>>> graph = new HashMap<>();
-        Map<Check<? super D>, D> pairs = new HashMap<>();
-        while (data.hasNext()) {
-            D item = data.next();
-            free.add(item);
-            int c = resultBuilder.column(item);
-            List<Check<? super D>> matches = range(0, checks.size()).filter(r -> resultBuilder.cell(r, c, checks.get(r).evaluate(item, factory)).passed()).mapToObj(checks::get).collect(toList());
-            graph.put(item, matches);
-            updatePairs(free, pairs, graph);
-            if(!all && pairs.size() == checks.size()) {
-                return contains || free.isEmpty() && (prefix || !data.hasNext())
-                        ? resultBuilder.build("All checks satisfied", true)
-                        : resultBuilder.build("Unexpected " + elementName, false);
+    public Evaluation<D> evaluation(ResultFactory factory) {
+        return new Evaluation<D>() {
+            private final Set<D> free = new HashSet<>();
+            private final TableAggregator<D> resultBuilder = factory.table(AnyOrderCheck.this, checks);
+            private final Map<D, List<Check<? super D>>> graph = new HashMap<>();
+            private final Map<Check<? super D>, D> pairs = new HashMap<>();
+            private boolean unmatched;
+            private boolean unpaired;
+            private boolean complete;
+            private Result result;
+
+            @Override
+            public boolean feed(D item) {
+                if(result != null) {
+                    return true;
+                }
+                if(complete) {
+                    result = resultBuilder.build("Unexpected " + elementName, false);
+                    return true;
+                }
+                int c = resultBuilder.column(item);
+                List<Check<? super D>> matches = range(0, checks.size()).filter(r -> resultBuilder.cell(r, c, checks.get(r).evaluate(item, factory)).passed()).mapToObj(checks::get).collect(toList());
+                if(matches.isEmpty()) {
+                    // Item not matching any check can never be paired, so there is no need to keep it in the graph.
+                    unmatched = true;
+                } else {
+                    free.add(item);
+                    graph.put(item, matches);
+                    updatePairs(free, pairs, graph);
+                    // Item left without pair has no augmenting path, and it can't get one later either (Berge), so
+                    // it can be dropped, and the matching state is bounded by number of the checks.
+                    if(!free.isEmpty()) {
+                        unpaired = true;
+                        free.stream().filter(left -> !pairs.containsValue(left)).forEach(graph::remove);
+                        free.clear();
+                    }
+                }
+                if(!all && pairs.size() == checks.size()) {
+                    if(contains || !unmatched && !unpaired && prefix) {
+                        result = resultBuilder.build("All checks satisfied", true);
+                    } else if(unmatched || unpaired) {
+                        result = resultBuilder.build("Unexpected " + elementName, false);
+                    } else {
+                        // All checks satisfied, but it's still needed to make sure, that there is no more item.
+                        complete = true;
+                    }
+                }
+                return result != null;
             }
-        }
-        int unsatisfied = checks.size() - pairs.size();
-        return (unsatisfied == 0 && graph.values().stream().noneMatch(List::isEmpty))
-                ? resultBuilder.build("All checks satisfied", true)
-                : resultBuilder.build(unsatisfied + (unsatisfied == 1 ? " check" : " checks") + " not satisfied", false);
+
+            @Override
+            public boolean decided() {
+                return result != null;
+            }
+
+            @Override
+            public Result result() {
+                if(result == null) {
+                    int unsatisfied = checks.size() - pairs.size();
+                    result = (unsatisfied == 0 && !unmatched)
+                            ? resultBuilder.build("All checks satisfied", true)
+                            : resultBuilder.build(unsatisfied + (unsatisfied == 1 ? " check" : " checks") + " not satisfied", false);
+                }
+                return result;
+            }
+        };
     }
 
     private static  <A, B> void updatePairs(Set<A> free, Map<B, A> pairs, Map<A, List<B>> graph) {
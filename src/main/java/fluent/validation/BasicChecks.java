@@ -90,7 +90,7 @@ public final class BasicChecks {
      * @return Composed check.
      */
     public static <D> Check<D> require(Check<? super D> requirement, Check<? super D> check) {
-        return new DoubleCheck<>(requirement, check);
+        return new RequireCheck<>(requirement, check);
     }
 
     /**
@@ -300,7 +300,7 @@ public final class BasicChecks {
 
     @SuppressWarnings("unchecked")
     private static <D> Check<D> multipleOperands(Iterable<Check<? super D>> operands, boolean andOperator) {
-        Iterator<Check<? super D>> iterator = operands.iterator();
+        Iterator<Check<? super D>> iterator = fuseContains(operands, andOperator).iterator();
         if(!iterator.hasNext()) {
             return BasicChecks.nullableCheck(data -> andOperator, "empty " + (andOperator ? "allOf" : "anyOf") + " formula");
         }
@@ -312,6 +312,36 @@ public final class BasicChecks {
         return next;
     }
 
+    /*
+     * Adjacent StringChecks.contains() operands are fused into single check, which searches all the substrings in one
+     * pass of the string.
+     */
+    private static <D> Iterable<Check<? super D>> fuseContains(Iterable<Check<? super D>> operands, boolean andOperator) {
+        List<Check<? super D>> fused = new ArrayList<>();
+        List<Check<? super D>> adjacent = new ArrayList<>();
+        for(Check<? super D> operand : operands) {
+            if(operand instanceof ContainsCheck) {
+                adjacent.add(operand);
+            } else {
+                fuse(fused, adjacent, andOperator);
+                fused.add(operand);
+            }
+        }
+        fuse(fused, adjacent, andOperator);
+        return fused;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <D> void fuse(List<Check<? super D>> fused, List<Check<? super D>> adjacent, boolean andOperator) {
+        if(adjacent.size() == 1) {
+            fused.add(adjacent.get(0));
+        } else if(adjacent.size() > 1) {
+            String[] substrings = adjacent.stream().map(check -> ((ContainsCheck) check).substring()).toArray(String[]::new);
+            fused.add((Check<? super D>) (Check<?>) new MultiContainsCheck<String>(andOperator, substrings));
+        }
+        adjacent.clear();
+    }
+
     /**
      * General OR operator of multiple checks.
      * The created check returns true if any of the provided operands (checks) returns true on the tested data,
@@ -517,6 +547,38 @@ public final class BasicChecks {
         return new Value<>();
     }
 
+    /**
+     * Thread safe value, which can be captured by checks evaluated concurrently. All captured values are retained.
+     *
+     * @param <D> Type of the value.
+     * @return Concurrent value.
+     */
+    public static <D> ConcurrentValue<D> concurrentValue() {
+        return new ConcurrentValue<>();
+    }
+
+    /**
+     * Thread safe value retaining only first N captured values. Latest captured value is still available via get().
+     *
+     * @param limit Maximal number of retained values.
+     * @param <D> Type of the value.
+     * @return Concurrent value.
+     */
+    public static <D> ConcurrentValue<D> concurrentValueKeepingFirst(int limit) {
+        return new ConcurrentValue<>(limit, false);
+    }
+
+    /**
+     * Thread safe value retaining only last N captured values.
+     *
+     * @param limit Maximal number of retained values.
+     * @param <D> Type of the value.
+     * @return Concurrent value.
+     */
+    public static <D> ConcurrentValue<D> concurrentValueKeepingLast(int limit) {
+        return new ConcurrentValue<>(limit, true);
+    }
+
     public static <D> Check<D> softCheck(Check<D> check) {
         return new SoftCheck<>(check);
     }
@@ -0,0 +1,200 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2021, Ondrej Fischer
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package fluent.validation;
+
+import fluent.validation.result.Aggregator;
+import fluent.validation.result.Result;
+import fluent.validation.result.ResultFactory;
+
+import javax.sql.rowset.CachedRowSet;
+import javax.sql.rowset.RowSetFactory;
+import javax.sql.rowset.RowSetMetaDataImpl;
+import javax.sql.rowset.RowSetProvider;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static fluent.validation.ResultSetComparison.normalize;
+
+/**
+ * Check of many lookups by key, which are executed in batches instead of one query per key.
+ *
+ * The query needs to contain IN list with single parameter, e.g. "... WHERE ID IN (?)", and no other parameter.
+ * The parameter is expanded to one parameter per key in the batch.
+ *
+ * Records of the combined result are mapped back to keys using the key column, and buffered per key, so the check of
+ * every key gets its own result set with records of that key only, positioned before the first record, like if the
+ * query was executed for that key alone. Memory consumption is therefore proportional to the result of one batch.
+ * Keys without any record fail. Key values are compared by value like column values in ResultSetComparison, so that
+ * e.g. Integer key matches BIGINT column returned as Long.
+ */
+final class BatchedLookupCheck<K> implements Check<Connection> {
+
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bIN\\s*\\(\\s*\\?\\s*\\)");
+
+    private final String sql;
+    private final String keyColumn;
+    private final int batchSize;
+    private final Map<K, ? extends Check<? super ResultSet>> checks;
+
+    BatchedLookupCheck(String sql, String keyColumn, int batchSize, Map<K, ? extends Check<? super ResultSet>> checks) {
+        if(batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+        if(!IN_LIST.matcher(sql).find() || parameters(sql) != 1) {
+            throw new IllegalArgumentException("Query needs to contain IN list with single parameter, and no other parameter: " + sql);
+        }
+        this.sql = sql;
+        this.keyColumn = keyColumn;
+        this.batchSize = batchSize;
+        this.checks = checks;
+    }
+
+    private static int parameters(String sql) {
+        int parameters = 0;
+        boolean quoted = false;
+        for(int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if(c == '\'') {
+                quoted = !quoted;
+            } else if(c == '?' && !quoted) {
+                parameters++;
+            }
+        }
+        return parameters;
+    }
+
+    private String batch(int size) {
+        Matcher matcher = IN_LIST.matcher(sql);
+        matcher.find();
+        StringBuilder builder = new StringBuilder();
+        builder.append(sql, 0, matcher.start()).append("IN (?");
+        for(int i = 1; i < size; i++) {
+            builder.append(", ?");
+        }
+        return builder.append(')').append(sql, matcher.end(), sql.length()).toString();
+    }
+
+    @Override
+    public Result evaluate(Connection data, ResultFactory factory) {
+        if(data == null) {
+            return factory.expectation(this, false);
+        }
+        Aggregator resultBuilder = factory.aggregator(this);
+        boolean passed = true;
+        List<K> keys = new ArrayList<>(checks.keySet());
+        try {
+            RowSetFactory rowSets = RowSetProvider.newFactory();
+            for(int start = 0; start < keys.size(); start += batchSize) {
+                List<K> batch = keys.subList(start, Math.min(keys.size(), start + batchSize));
+                Map<Object, K> byValue = new HashMap<>();
+                for(K key : batch) {
+                    byValue.put(normalize(key), key);
+                }
+                Map<K, CachedRowSet> records = new HashMap<>();
+                try(PreparedStatement statement = data.prepareStatement(batch(batch.size()))) {
+                    for(int i = 0; i < batch.size(); i++) {
+                        statement.setObject(i + 1, batch.get(i));
+                    }
+                    try(ResultSet resultSet = statement.executeQuery()) {
+                        RowSetMetaDataImpl metaData = metaData(resultSet.getMetaData());
+                        int keyIndex = resultSet.findColumn(keyColumn);
+                        while(resultSet.next()) {
+                            K key = byValue.get(normalize(resultSet.getObject(keyIndex)));
+                            if(key == null) {
+                                continue;
+                            }
+                            CachedRowSet rowSet = records.get(key);
+                            if(rowSet == null) {
+                                records.put(key, rowSet = rowSets.createCachedRowSet());
+                                rowSet.setMetaData(metaData);
+                            }
+                            copy(resultSet, rowSet, metaData.getColumnCount());
+                        }
+                    }
+                }
+                for(K key : batch) {
+                    CachedRowSet rowSet = records.get(key);
+                    if(rowSet == null) {
+                        resultBuilder.add(factory.named("key " + key, factory.expectation("has record", false), false));
+                        passed = false;
+                    } else {
+                        rowSet.beforeFirst();
+                        Result result = checks.get(key).evaluate(rowSet, factory);
+                        passed &= resultBuilder.add(factory.named("key " + key, result, result.passed())).passed();
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            return factory.error(e);
+        }
+        return resultBuilder.build(passed ? "All keys matched" : "Some keys not matched", passed);
+    }
+
+    /*
+     * Columns of the buffered records are named by labels of the query result, so they are found by the same labels.
+     */
+    private static RowSetMetaDataImpl metaData(ResultSetMetaData source) throws SQLException {
+        RowSetMetaDataImpl metaData = new RowSetMetaDataImpl();
+        int columns = source.getColumnCount();
+        metaData.setColumnCount(columns);
+        for(int i = 1; i <= columns; i++) {
+            metaData.setColumnLabel(i, source.getColumnLabel(i));
+            metaData.setColumnName(i, source.getColumnLabel(i));
+            metaData.setColumnType(i, source.getColumnType(i));
+            metaData.setNullable(i, ResultSetMetaData.columnNullable);
+        }
+        return metaData;
+    }
+
+    private static void copy(ResultSet resultSet, CachedRowSet rowSet, int columns) throws SQLException {
+        rowSet.afterLast();
+        rowSet.moveToInsertRow();
+        for(int i = 1; i <= columns; i++) {
+            rowSet.updateObject(i, resultSet.getObject(i));
+        }
+        rowSet.insertRow();
+        rowSet.moveToCurrentRow();
+    }
+
+    @Override
+    public String toString() {
+        return "lookup " + sql + " by " + keyColumn + " of " + checks;
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2021, Ondrej Fischer
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package fluent.validation;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Byte sequence matched directly in ByteBuffer (heap, direct or memory mapped) using absolute access, so position
+ * and limit of the buffer are never modified. Search uses Boyer-Moore-Horspool algorithm.
+ */
+final class BytePattern {
+
+    private final byte[] bytes;
+    private final int[] shift = new int[256];
+
+    BytePattern(byte[] bytes) {
+        this.bytes = bytes.clone();
+        int n = bytes.length;
+        Arrays.fill(shift, Math.max(n, 1));
+        for(int i = 0; i < n - 1; i++) {
+            shift[bytes[i] & 0xFF] = n - 1 - i;
+        }
+    }
+
+    int length() {
+        return bytes.length;
+    }
+
+    private boolean matchesAt(ByteBuffer buffer, int index) {
+        for(int j = bytes.length - 1; j >= 0; j--) {
+            if(buffer.get(index + j) != bytes[j]) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Find first occurrence in given range of the buffer.
+     *
+     * @param buffer Searched buffer.
+     * @param from Absolute index of the first byte of the range.
+     * @param to Absolute index following the last byte of the range.
+     * @return Absolute index of the first occurrence, or -1 if there is none.
+     */
+    int indexIn(ByteBuffer buffer, int from, int to) {
+        int n = bytes.length;
+        for(int i = from, limit = to - n; i <= limit; i += shift[buffer.get(i + n - 1) & 0xFF]) {
+            if(matchesAt(buffer, i)) return i;
+        }
+        return -1;
+    }
+
+    boolean isContainedIn(ByteBuffer buffer) {
+        return indexIn(buffer, buffer.position(), buffer.limit()) >= 0;
+    }
+
+    boolean isPrefixOf(ByteBuffer buffer) {
+        return buffer.remaining() >= bytes.length && matchesAt(buffer, buffer.position());
+    }
+
+    boolean isSuffixOf(ByteBuffer buffer) {
+        return buffer.remaining() >= bytes.length && matchesAt(buffer, buffer.limit() - bytes.length);
+    }
+
+    boolean contentEquals(ByteBuffer buffer) {
+        return buffer.remaining() == bytes.length && matchesAt(buffer, buffer.position());
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(bytes);
+    }
+
+}
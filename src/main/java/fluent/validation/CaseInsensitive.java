@@ -0,0 +1,101 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2021, Ondrej Fischer
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package fluent.validation;
+
+import java.util.Arrays;
+
+/**
+ * Case insensitive matching of a needle, which is case folded once on construction. Characters are compared the same
+ * way as in String.regionMatches(true, ...) (using Character.toUpperCase and Character.toLowerCase), so the
+ * matching is independent of default locale, and it doesn't allocate any new string during evaluation.
+ *
+ * Long inputs are searched using Boyer-Moore-Horspool algorithm over folded characters.
+ */
+final class CaseInsensitive {
+
+    private static final int SEARCH_THRESHOLD = 64;
+
+    private final char[] needle;
+    private final int[] shift = new int[256];
+
+    CaseInsensitive(String needle) {
+        this.needle = new char[needle.length()];
+        for(int i = 0; i < this.needle.length; i++) {
+            this.needle[i] = fold(needle.charAt(i));
+        }
+        int n = this.needle.length;
+        Arrays.fill(shift, Math.max(n, 1));
+        // Shift table is indexed by low byte of the folded character, so the shift is the smallest one for all
+        // characters sharing the same low byte.
+        for(int i = 0; i < n - 1; i++) {
+            shift[this.needle[i] & 0xFF] = n - 1 - i;
+        }
+    }
+
+    private static char fold(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    private boolean matchesAt(CharSequence data, int offset) {
+        for(int i = 0; i < needle.length; i++) {
+            char c = data.charAt(offset + i);
+            if(c != needle[i] && fold(c) != needle[i]) return false;
+        }
+        return true;
+    }
+
+    boolean isPrefixOf(CharSequence data) {
+        return data.length() >= needle.length && matchesAt(data, 0);
+    }
+
+    boolean isSuffixOf(CharSequence data) {
+        return data.length() >= needle.length && matchesAt(data, data.length() - needle.length);
+    }
+
+    boolean isContainedIn(CharSequence data) {
+        return indexIn(data) >= 0;
+    }
+
+    int indexIn(CharSequence data) {
+        int n = needle.length;
+        int limit = data.length() - n;
+        if(limit < SEARCH_THRESHOLD || n < 2) {
+            for(int i = 0; i <= limit; i++) {
+                if(matchesAt(data, i)) return i;
+            }
+            return -1;
+        }
+        for(int i = 0; i <= limit; i += shift[fold(data.charAt(i + n - 1)) & 0xFF]) {
+            if(matchesAt(data, i)) return i;
+        }
+        return -1;
+    }
+
+}
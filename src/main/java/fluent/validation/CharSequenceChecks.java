@@ -0,0 +1,108 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2021, Ondrej Fischer
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package fluent.validation;
+
+import java.util.regex.Pattern;
+
+import static fluent.validation.BasicChecks.*;
+import static fluent.validation.Transformation.dontTransformNull;
+
+/**
+ * String checks applicable on any CharSequence (e.g. StringBuilder, CharBuffer or slice of a decoded buffer),
+ * which operate on the sequence directly, so it doesn't need to be copied into a String.
+ *
+ * The methods intentionally use the same names as their StringChecks counterparts, so this class is not included
+ * in the Checks facade, and needs to be imported explicitly.
+ */
+public final class CharSequenceChecks {
+
+    private CharSequenceChecks() {}
+
+    public static Check<CharSequence> contentEqualTo(CharSequence expectedValue) {
+        return check(data -> CharSequences.contentEquals(data, expectedValue), "<" + expectedValue + ">");
+    }
+
+    public static Check<CharSequence> emptyString() {
+        return nullableCheck(data -> data == null || data.length() == 0, "is empty string");
+    }
+
+    public static Check<CharSequence> trim(Check<? super CharSequence> check) {
+        return compose(dontTransformNull(CharSequences::trim), check);
+    }
+
+    public static Check<CharSequence> startsWith(CharSequence prefix) {
+        return check(data -> CharSequences.startsWith(data, prefix), "starts with <" + prefix + ">");
+    }
+
+    public static Check<CharSequence> startsCaseInsensitiveWith(String prefix) {
+        return check(new CaseInsensitive(prefix)::isPrefixOf, "starts with " + prefix);
+    }
+
+    public static Check<CharSequence> endsWith(CharSequence suffix) {
+        return check(data -> CharSequences.endsWith(data, suffix), "ends with <" + suffix + ">");
+    }
+
+    public static Check<CharSequence> endsCaseInsensitiveWith(String suffix) {
+        return check(new CaseInsensitive(suffix)::isSuffixOf, "ends with " + suffix);
+    }
+
+    public static Check<CharSequence> contains(CharSequence substring) {
+        return check(data -> CharSequences.indexOf(data, substring) >= 0, "contains " + substring);
+    }
+
+    public static Check<CharSequence> containsCaseInsensitive(String substring) {
+        return check(new CaseInsensitive(substring)::isContainedIn, "contains " + substring);
+    }
+
+    public static Check<CharSequence> containsAnyOf(String... substrings) {
+        return new MultiContainsCheck<>(false, substrings);
+    }
+
+    public static Check<CharSequence> containsAllOf(String... substrings) {
+        return new MultiContainsCheck<>(true, substrings);
+    }
+
+    public static Check<CharSequence> matches(Pattern pattern) {
+        return new RegexCheckBuilder<>(pattern);
+    }
+
+    public static Check<CharSequence> matchesPattern(String pattern) {
+        return matches(Patterns.compile(pattern));
+    }
+
+    public static RegexCheckBuilder<CharSequence> matchesWith(Pattern pattern) {
+        return new RegexCheckBuilder<>(pattern);
+    }
+
+    public static RegexCheckBuilder<CharSequence> matchesWith(String pattern) {
+        return matchesWith(Patterns.compile(pattern));
+    }
+
+}
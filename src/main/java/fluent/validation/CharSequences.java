@@ -0,0 +1,94 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2021, Ondrej Fischer
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package fluent.validation;
+
+/**
+ * String operations implemented directly on CharSequence, so that StringBuilder, CharBuffer or other sequences don't
+ * need to be copied into a String.
+ */
+final class CharSequences {
+
+    private CharSequences() {}
+
+    static boolean contentEquals(CharSequence data, CharSequence expected) {
+        if(data instanceof String) {
+            return ((String) data).contentEquals(expected);
+        }
+        int length = data.length();
+        if(length != expected.length()) return false;
+        for(int i = 0; i < length; i++) {
+            if(data.charAt(i) != expected.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    static boolean regionMatches(CharSequence data, int offset, CharSequence needle) {
+        int length = needle.length();
+        if(offset < 0 || offset > data.length() - length) return false;
+        for(int i = 0; i < length; i++) {
+            if(data.charAt(offset + i) != needle.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    static boolean startsWith(CharSequence data, CharSequence prefix) {
+        return regionMatches(data, 0, prefix);
+    }
+
+    static boolean endsWith(CharSequence data, CharSequence suffix) {
+        return regionMatches(data, data.length() - suffix.length(), suffix);
+    }
+
+    static int indexOf(CharSequence data, CharSequence needle) {
+        if(data instanceof String && needle instanceof String) {
+            return ((String) data).indexOf((String) needle);
+        }
+        int length = needle.length();
+        if(length == 0) return 0;
+        char first = needle.charAt(0);
+        for(int i = 0, limit = data.length() - length; i <= limit; i++) {
+            if(data.charAt(i) == first && regionMatches(data, i, needle)) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Trim the sequence the same way as String.trim() does, but using a view of the original sequence if it provides
+     * one (e.g. CharBuffer).
+     */
+    static CharSequence trim(CharSequence data) {
+        int start = 0;
+        int end = data.length();
+        while(start < end && data.charAt(start) <= ' ') start++;
+        while(end > start && data.charAt(end - 1) <= ' ') end--;
+        return start == 0 && end == data.length() ? data : data.subSequence(start, end);
+    }
+
+}
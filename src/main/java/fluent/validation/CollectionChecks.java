@@ -34,6 +34,7 @@ import fluent.validation.processor.Factory;
 import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.BlockingQueue;
+import java.util.stream.Stream;
 
 import static fluent.validation.BasicChecks.*;
 import static fluent.validation.Items.checks;
@@ -56,9 +57,43 @@ public final class CollectionChecks {
     }
 
     public static <D> Check<Iterable<D>> every(String elementName, Check<? super D> check) {
+        return collection(everyItem(elementName, check));
+    }
+
+    /**
+     * Check, that every item provided by an iterator matches provided check.
+     * It's fast fail, so it's decided on first item, which doesn't match the check.
+     *
+     * @param elementName Name of the items used in the result description.
+     * @param check Check of the item.
+     * @param <D> Type of the items.
+     * @return Iterator check, that can be evaluated also incrementally.
+     */
+    public static <D> SequenceCheck<D> everyItem(String elementName, Check<? super D> check) {
         return new Quantifier<>(elementName, Quantifier.Type.every, check);
     }
 
+    /**
+     * Check, that at least one item provided by an iterator matches provided check.
+     * It's fast pass, so it's decided on first item, which matches the check.
+     *
+     * @param elementName Name of the items used in the result description.
+     * @param check Check of the item.
+     * @param <D> Type of the items.
+     * @return Iterator check, that can be evaluated also incrementally.
+     */
+    public static <D> SequenceCheck<D> existsItem(String elementName, Check<? super D> check) {
+        return new Quantifier<>(elementName, Quantifier.Type.exists, check);
+    }
+
+    public static <D> SequenceCheck<D> everyItem(Check<? super D> check) {
+        return everyItem("Item", check);
+    }
+
+    public static <D> SequenceCheck<D> existsItem(Check<? super D> check) {
+        return existsItem("Item", check);
+    }
+
     public static <D> Check<D> repeatMax(Check<D> attemptCheck, int max) {
         return repeatMax(attemptCheck, max, Duration.ofSeconds(1));
     }
@@ -67,60 +102,76 @@ public final class CollectionChecks {
         return has("Try max " + max + " times", (D i) -> repeat(i, max, delay)).matching(exists("Attempt", itemCheck));
     }
 
-    public static <T> Check<Iterator<T>> startsWith(String elementName, Items<T> prefix) {
+    public static <T> SequenceCheck<T> startsWith(String elementName, Items<T> prefix) {
         return new SameOrderCheck<>(elementName, checks(prefix), false, true);
     }
 
-    public static <T> Check<Iterator<T>> contains(String elementName, Items<T> elementChecks) {
+    public static <T> SequenceCheck<T> contains(String elementName, Items<T> elementChecks) {
         return new SameOrderCheck<>(elementName, checks(elementChecks), false, false);
     }
 
-    public static <T> Check<Iterator<T>> equalTo(String elementName, Items<T> elementChecks) {
+    public static <T> SequenceCheck<T> equalTo(String elementName, Items<T> elementChecks) {
         return new SameOrderCheck<>(elementName, checks(elementChecks), true, true);
     }
 
-    public static <T> Check<Iterator<T>> startsWith(Items<T> prefix) {
+    /**
+     * Check, that an iterator provides continuous sequence of items matching provided checks in exact order.
+     *
+     * @param elementName Name of the items used in the result description.
+     * @param elementChecks Checks of the subsequent items.
+     * @param <T> Type of the items.
+     * @return Iterator check, that can be evaluated also incrementally.
+     */
+    public static <T> SequenceCheck<T> containsSequence(String elementName, Items<T> elementChecks) {
+        return new SubsequenceCheck<>(elementName, new ArrayList<Check<? super T>>(checks(elementChecks)));
+    }
+
+    public static <T> SequenceCheck<T> containsSequence(Items<T> elementChecks) {
+        return containsSequence("Item", elementChecks);
+    }
+
+    public static <T> SequenceCheck<T> startsWith(Items<T> prefix) {
         return startsWith("Item", prefix);
     }
 
-    public static <T> Check<Iterator<T>> contains(Items<T> elementChecks) {
+    public static <T> SequenceCheck<T> contains(Items<T> elementChecks) {
         return contains("Item", elementChecks);
     }
 
-    public static <T> Check<Iterator<T>> equalTo(Items<T> elementChecks) {
+    public static <T> SequenceCheck<T> equalTo(Items<T> elementChecks) {
         return equalTo("Item", elementChecks);
     }
 
 
-    public static <T> Check<Iterator<T>> startsInAnyOrderWith(String elementName, Items<T> prefixElementChecks) {
+    public static <T> SequenceCheck<T> startsInAnyOrderWith(String elementName, Items<T> prefixElementChecks) {
         return new AnyOrderCheck<>(elementName, checks(prefixElementChecks), false, true, false);
     }
 
-    public static <T> Check<Iterator<T>> containsInAnyOrder(String elementName, Items<T> elementChecks) {
+    public static <T> SequenceCheck<T> containsInAnyOrder(String elementName, Items<T> elementChecks) {
         return new AnyOrderCheck<>(elementName, checks(elementChecks), false, false, false);
     }
 
-    public static <T> Check<Iterator<T>> containsInAnyOrderOnly(String elementName, Items<T> elementChecks) {
+    public static <T> SequenceCheck<T> containsInAnyOrderOnly(String elementName, Items<T> elementChecks) {
         return new AnyOrderCheck<>(elementName, checks(elementChecks), false, false, true);
     }
 
-    public static <T> Check<Iterator<T>> equalInAnyOrderTo(String elementName, Items<T> elementChecks) {
+    public static <T> SequenceCheck<T> equalInAnyOrderTo(String elementName, Items<T> elementChecks) {
         return new AnyOrderCheck<>(elementName, checks(elementChecks), true, true, false);
     }
 
-    public static <T> Check<Iterator<T>> startsInAnyOrderWith(Items<T> prefixElementChecks) {
+    public static <T> SequenceCheck<T> startsInAnyOrderWith(Items<T> prefixElementChecks) {
         return startsInAnyOrderWith("Item", prefixElementChecks);
     }
 
-    public static <T> Check<Iterator<T>> containsInAnyOrder(Items<T> elementChecks) {
+    public static <T> SequenceCheck<T> containsInAnyOrder(Items<T> elementChecks) {
         return containsInAnyOrder("Item", elementChecks);
     }
 
-    public static <T> Check<Iterator<T>> containsInAnyOrderOnly(Items<T> elementChecks) {
+    public static <T> SequenceCheck<T> containsInAnyOrderOnly(Items<T> elementChecks) {
         return containsInAnyOrderOnly("Item", elementChecks);
     }
 
-    public static <T> Check<Iterator<T>> equalInAnyOrderTo(Items<T> elementChecks) {
+    public static <T> SequenceCheck<T> equalInAnyOrderTo(Items<T> elementChecks) {
         return equalInAnyOrderTo("Item", elementChecks);
     }
 
@@ -133,6 +184,34 @@ public final class CollectionChecks {
         return requireNotNull(transform(array -> asList(array).iterator(), check));
     }
 
+    /*
+     * Quantifiers over primitive arrays, testing the elements without boxing.
+     */
+
+    public static Check<int[]> everyIntItem(IntCheck check) {
+        return new PrimitiveArrayQuantifier.Ints(check, false);
+    }
+
+    public static Check<int[]> existsIntItem(IntCheck check) {
+        return new PrimitiveArrayQuantifier.Ints(check, true);
+    }
+
+    public static Check<long[]> everyLongItem(LongCheck check) {
+        return new PrimitiveArrayQuantifier.Longs(check, false);
+    }
+
+    public static Check<long[]> existsLongItem(LongCheck check) {
+        return new PrimitiveArrayQuantifier.Longs(check, true);
+    }
+
+    public static Check<double[]> everyDoubleItem(DoubleCheck check) {
+        return new PrimitiveArrayQuantifier.Doubles(check, false);
+    }
+
+    public static Check<double[]> existsDoubleItem(DoubleCheck check) {
+        return new PrimitiveArrayQuantifier.Doubles(check, true);
+    }
+
     public static <T> Check<Queue<T>> queue(Check<Iterator<T>> check) {
         return requireNotNull(transform(Functions::queueIterator, check));
     }
@@ -141,6 +220,48 @@ public final class CollectionChecks {
         return requireNotNull(transform(queue -> Functions.blockingQueueIterator(queue, timeout.toMillis()), check));
     }
 
+    /**
+     * Apply iterator check on elements of a stream.
+     * The stream is consumed lazily, and closed once the check is evaluated, so no more elements are pulled from the
+     * stream source, than needed to decide the check.
+     *
+     * @param check Check of the iterator.
+     * @param <T> Type of the elements in the stream.
+     * @return Stream check.
+     */
+    public static <T> Check<Stream<T>> stream(Check<Iterator<T>> check) {
+        return requireNotNull(new StreamCheck<>(check));
+    }
+
+    /**
+     * Apply iterator check on elements of a blocking queue, which arrive within given overall timeout.
+     * As opposed to blockingQueue(), the timeout is not applied on every element, but on the whole check, and the
+     * available elements are drained from the queue in batches, so it's suitable for high-rate event streams.
+     *
+     * @param check Check of the iterator.
+     * @param timeout Overall timeout of the check.
+     * @param batchSize Maximal number of elements drained from the queue at once.
+     * @param <T> Type of the elements in the queue.
+     * @return Blocking queue check.
+     */
+    public static <T> Check<BlockingQueue<T>> blockingQueueWithin(Check<Iterator<T>> check, Duration timeout, int batchSize) {
+        return requireNotNull(transform(queue -> Functions.batchingQueueIterator(queue, timeout.toMillis(), batchSize), check));
+    }
+
+    /**
+     * Apply iterator check on elements of a blocking queue, which arrive within given overall timeout, draining
+     * available elements in batches of up to 256 elements.
+     *
+     * @param check Check of the iterator.
+     * @param timeout Overall timeout of the check.
+     * @param <T> Type of the elements in the queue.
+     * @return Blocking queue check.
+     * @see #blockingQueueWithin(Check, Duration, int)
+     */
+    public static <T> Check<BlockingQueue<T>> blockingQueueWithin(Check<Iterator<T>> check, Duration timeout) {
+        return blockingQueueWithin(check, timeout, 256);
+    }
+
 
     /**
      * Create matcher of empty collection.
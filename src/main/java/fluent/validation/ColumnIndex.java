@@ -0,0 +1,83 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2021, Ondrej Fischer
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package fluent.validation;
+
+import java.lang.ref.WeakReference;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Resolution of a column label to column index, cached for the last result set, on which it was used.
+ * It allows label based column checks to access the values by index, without resolving the label on every row.
+ */
+final class ColumnIndex {
+
+    private final String label;
+    private final int position;
+    private volatile Resolved resolved;
+
+    ColumnIndex(String label) {
+        this.label = label;
+        this.position = 0;
+    }
+
+    ColumnIndex(int position) {
+        this.label = null;
+        this.position = position;
+    }
+
+    int in(ResultSet resultSet) throws SQLException {
+        if(label == null) {
+            return position;
+        }
+        Resolved current = resolved;
+        if(current == null || current.resultSet.get() != resultSet) {
+            current = new Resolved(resultSet, resultSet.findColumn(label));
+            resolved = current;
+        }
+        return current.index;
+    }
+
+    @Override
+    public String toString() {
+        return label == null ? "column [" + position + "]" : label;
+    }
+
+    private static final class Resolved {
+        private final WeakReference<ResultSet> resultSet;
+        private final int index;
+
+        private Resolved(ResultSet resultSet, int index) {
+            this.resultSet = new WeakReference<>(resultSet);
+            this.index = index;
+        }
+    }
+
+}
@@ -108,4 +108,106 @@ public final class ComparisonChecks {
         return betweenInclusive(left, right, Comparable::compareTo);
     }
 
+
+    /* ------------------------------------------------------------------------------------------------------
+     * Comparison of primitive values without boxing.
+     * ------------------------------------------------------------------------------------------------------
+     */
+
+    public static IntCheck intEqualTo(int expectedValue) {
+        return new IntPredicateCheck("<" + expectedValue + ">", data -> data == expectedValue);
+    }
+
+    public static LongCheck longEqualTo(long expectedValue) {
+        return new LongPredicateCheck("<" + expectedValue + ">", data -> data == expectedValue);
+    }
+
+    public static IntCheck intLessThan(int operand) {
+        return new IntPredicateCheck("< " + operand, data -> data < operand);
+    }
+
+    public static IntCheck intMoreThan(int operand) {
+        return new IntPredicateCheck("> " + operand, data -> data > operand);
+    }
+
+    public static IntCheck intEqualOrLessThan(int operand) {
+        return new IntPredicateCheck("<= " + operand, data -> data <= operand);
+    }
+
+    public static IntCheck intEqualOrMoreThan(int operand) {
+        return new IntPredicateCheck(">= " + operand, data -> data >= operand);
+    }
+
+    public static LongCheck longLessThan(long operand) {
+        return new LongPredicateCheck("< " + operand, data -> data < operand);
+    }
+
+    public static LongCheck longMoreThan(long operand) {
+        return new LongPredicateCheck("> " + operand, data -> data > operand);
+    }
+
+    public static LongCheck longEqualOrLessThan(long operand) {
+        return new LongPredicateCheck("<= " + operand, data -> data <= operand);
+    }
+
+    public static LongCheck longEqualOrMoreThan(long operand) {
+        return new LongPredicateCheck(">= " + operand, data -> data >= operand);
+    }
+
+    public static DoubleCheck doubleLessThan(double operand) {
+        return new DoublePredicateCheck("< " + operand, data -> data < operand);
+    }
+
+    public static DoubleCheck doubleMoreThan(double operand) {
+        return new DoublePredicateCheck("> " + operand, data -> data > operand);
+    }
+
+    public static DoubleCheck doubleEqualOrLessThan(double operand) {
+        return new DoublePredicateCheck("<= " + operand, data -> data <= operand);
+    }
+
+    public static DoubleCheck doubleEqualOrMoreThan(double operand) {
+        return new DoublePredicateCheck(">= " + operand, data -> data >= operand);
+    }
+
+    /*
+     * Primitive ranges accept the boundaries in any order, the same way as between(left, right).
+     */
+
+    public static IntCheck intBetween(int left, int right) {
+        int min = Math.min(left, right);
+        int max = Math.max(left, right);
+        return new IntPredicateCheck("> " + min + " and < " + max, data -> data > min && data < max);
+    }
+
+    public static IntCheck intBetweenInclusive(int left, int right) {
+        int min = Math.min(left, right);
+        int max = Math.max(left, right);
+        return new IntPredicateCheck(">= " + min + " and <= " + max, data -> data >= min && data <= max);
+    }
+
+    public static LongCheck longBetween(long left, long right) {
+        long min = Math.min(left, right);
+        long max = Math.max(left, right);
+        return new LongPredicateCheck("> " + min + " and < " + max, data -> data > min && data < max);
+    }
+
+    public static LongCheck longBetweenInclusive(long left, long right) {
+        long min = Math.min(left, right);
+        long max = Math.max(left, right);
+        return new LongPredicateCheck(">= " + min + " and <= " + max, data -> data >= min && data <= max);
+    }
+
+    public static DoubleCheck doubleBetween(double left, double right) {
+        double min = Math.min(left, right);
+        double max = Math.max(left, right);
+        return new DoublePredicateCheck("> " + min + " and < " + max, data -> data > min && data < max);
+    }
+
+    public static DoubleCheck doubleBetweenInclusive(double left, double right) {
+        double min = Math.min(left, right);
+        double max = Math.max(left, right);
+        return new DoublePredicateCheck(">= " + min + " and <= " + max, data -> data >= min && data <= max);
+    }
+
 }
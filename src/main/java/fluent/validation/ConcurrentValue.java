@@ -0,0 +1,229 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2021, Ondrej Fischer
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package fluent.validation;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Thread safe variant of the {@link Value}, which can be captured from checks evaluated concurrently
+ * (e.g. within parallel streams or asynchronous retries).
+ *
+ * Storage of the captured values is lock-free. It can be unbounded, or it can retain only first or last N values.
+ * Method {@link #get()} returns the latest captured value in constant time regardless of the retention, and the
+ * captured values can be iterated without copying. The iteration is weakly consistent, i.e. it reflects values stored
+ * before it started, and may or may not reflect values stored concurrently.
+ *
+ * @param <D> Type of the value to capture.
+ */
+public final class ConcurrentValue<D> extends Value<D> implements Iterable<D> {
+
+    private final Storage<D> values;
+
+    private ConcurrentValue(Storage<D> values) {
+        super(values);
+        this.values = values;
+    }
+
+    ConcurrentValue() {
+        this(new Unbounded<>());
+    }
+
+    ConcurrentValue(int limit, boolean keepLast) {
+        this(keepLast ? new Last<>(limit) : new First<>(limit));
+    }
+
+    @Override
+    public Iterator<D> iterator() {
+        return values.iterator();
+    }
+
+    private static final class Node<D> {
+        private final long index;
+        private final D value;
+
+        private Node(long index, D value) {
+            this.index = index;
+            this.value = value;
+        }
+    }
+
+    private static abstract class LockFreeStorage<D> implements Storage<D> {
+        final AtomicLong count = new AtomicLong();
+        private final AtomicReference<Node<D>> latest = new AtomicReference<>();
+
+        @Override
+        public final void add(D value) {
+            Node<D> node = new Node<>(count.getAndIncrement(), value);
+            store(node);
+            latest.accumulateAndGet(node, (current, stored) -> current == null || current.index < stored.index ? stored : current);
+        }
+
+        abstract void store(Node<D> node);
+
+        @Override
+        public final boolean isEmpty() {
+            return latest.get() == null;
+        }
+
+        @Override
+        public final D last() {
+            return latest.get().value;
+        }
+
+        @Override
+        public final List<D> copy() {
+            List<D> list = new ArrayList<>();
+            forEach(list::add);
+            return list;
+        }
+    }
+
+    private static final class Unbounded<D> extends LockFreeStorage<D> {
+        private final ConcurrentLinkedQueue<Node<D>> nodes = new ConcurrentLinkedQueue<>();
+
+        @Override
+        void store(Node<D> node) {
+            nodes.add(node);
+        }
+
+        @Override
+        public Iterator<D> iterator() {
+            Iterator<Node<D>> iterator = nodes.iterator();
+            return new Iterator<D>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public D next() {
+                    return iterator.next().value;
+                }
+            };
+        }
+    }
+
+    private static abstract class Bounded<D> extends LockFreeStorage<D> {
+        final AtomicReferenceArray<Node<D>> nodes;
+
+        Bounded(int limit) {
+            if(limit < 1) {
+                throw new IllegalArgumentException("Number of retained values must be positive: " + limit);
+            }
+            this.nodes = new AtomicReferenceArray<>(limit);
+        }
+
+        abstract long first(long count);
+
+        @Override
+        public Iterator<D> iterator() {
+            long stored = count.get();
+            long start = first(stored);
+            long end = Math.min(stored, start + nodes.length());
+            return new Iterator<D>() {
+                private long index = start;
+                private Node<D> next;
+
+                @Override
+                public boolean hasNext() {
+                    // Skip slots not written yet, or already overwritten by newer values.
+                    while(next == null && index < end) {
+                        Node<D> node = nodes.get((int) (index % nodes.length()));
+                        if(node != null && node.index == index) {
+                            next = node;
+                        }
+                        index++;
+                    }
+                    return next != null;
+                }
+
+                @Override
+                public D next() {
+                    if(!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    D value = next.value;
+                    next = null;
+                    return value;
+                }
+            };
+        }
+    }
+
+    private static final class First<D> extends Bounded<D> {
+        First(int limit) {
+            super(limit);
+        }
+
+        @Override
+        void store(Node<D> node) {
+            if(node.index < nodes.length()) {
+                nodes.set((int) node.index, node);
+            }
+        }
+
+        @Override
+        long first(long count) {
+            return 0;
+        }
+    }
+
+    private static final class Last<D> extends Bounded<D> {
+        Last(int limit) {
+            super(limit);
+        }
+
+        @Override
+        void store(Node<D> node) {
+            int slot = (int) (node.index % nodes.length());
+            Node<D> current;
+            do {
+                current = nodes.get(slot);
+                // Don't let a delayed writer overwrite a newer value stored to the same slot.
+                if(current != null && current.index > node.index) {
+                    return;
+                }
+            } while(!nodes.compareAndSet(slot, current, node));
+        }
+
+        @Override
+        long first(long count) {
+            return Math.max(0, count - nodes.length());
+        }
+    }
+
+}
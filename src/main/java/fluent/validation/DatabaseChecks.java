@@ -30,12 +30,17 @@
 package fluent.validation;
 
 import java.sql.CallableStatement;
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import static fluent.validation.BasicChecks.*;
+import static fluent.validation.PrimitiveColumnCheck.*;
 
 public final class DatabaseChecks {
     private DatabaseChecks() {}
@@ -55,10 +60,67 @@ public final class DatabaseChecks {
         return new ResultSetCheckInOrder(checks, true, true);
     }
 
+    /**
+     * Check, that result set contains the same records as the reference result set, in the same order.
+     * Both result sets are read simultaneously, and values are compared by column index, so the memory consumption
+     * doesn't depend on the number of records. Evaluation stops at first K found differences.
+     *
+     * @param reference Reference result set, e.g. result of the same query on other database.
+     * @param maxDifferences Maximal number of reported differences.
+     * @return Check of the result set.
+     */
+    public static Check<ResultSet> resultSetEqualTo(ResultSet reference, int maxDifferences) {
+        return new ResultSetComparison(reference, maxDifferences);
+    }
+
+    public static Check<ResultSet> resultSetEqualTo(ResultSet reference) {
+        return resultSetEqualTo(reference, 10);
+    }
+
     public static Check<ResultSet> resultSetEqualInAnyOrderTo(Collection<Check<? super ResultSet>> checks) {
         return new ResultSetCheckInAnyOrder(checks, true, true);
     }
 
+    /**
+     * Check, that result set contains the same records as the reference result set in any order.
+     * Records are paired by values of the key columns using hashing, so the comparison runs in linear time.
+     * Reference result set is read into memory first, then the tested one is streamed.
+     *
+     * @param reference Reference result set, e.g. result of the same query on other database.
+     * @param maxDifferences Maximal number of reported differences.
+     * @param keyColumns Labels of the columns identifying a record.
+     * @return Check of the result set.
+     */
+    public static Check<ResultSet> resultSetEqualInAnyOrderTo(ResultSet reference, int maxDifferences, String... keyColumns) {
+        return new ResultSetKeyComparison(reference, keyColumns, maxDifferences);
+    }
+
+    public static Check<ResultSet> resultSetEqualInAnyOrderTo(ResultSet reference, String... keyColumns) {
+        return resultSetEqualInAnyOrderTo(reference, 10, keyColumns);
+    }
+
+    /**
+     * Check, that result set contains records matching the checks in any order, with snapshots of failed records in
+     * the result. Values of the selected columns are copied from last N failed records, so the report shows them,
+     * although the result set can't be revisited.
+     *
+     * @param checks Checks of the records.
+     * @param failedRecords Maximal number of failed records, whose snapshots are kept.
+     * @param snapshotColumns Labels of the columns to copy into the snapshots.
+     * @return Check of the result set.
+     */
+    public static Check<ResultSet> resultSetEqualInAnyOrderTo(Collection<Check<? super ResultSet>> checks, int failedRecords, String... snapshotColumns) {
+        return new ResultSetCheckInAnyOrder(checks, true, true, snapshotColumns.clone(), failedRecords);
+    }
+
+    public static Check<ResultSet> resultSetStartsInAnyOrderWith(Collection<Check<? super ResultSet>> checks, int failedRecords, String... snapshotColumns) {
+        return new ResultSetCheckInAnyOrder(checks, false, true, snapshotColumns.clone(), failedRecords);
+    }
+
+    public static Check<ResultSet> resultSetContainsInAnyOrder(Collection<Check<? super ResultSet>> checks, int failedRecords, String... snapshotColumns) {
+        return new ResultSetCheckInAnyOrder(checks, false, false, snapshotColumns.clone(), failedRecords);
+    }
+
     public static Check<ResultSet> resultSetStartsWith(Collection<Check<? super ResultSet>> checks) {
         return new ResultSetCheckInOrder(checks, false, true);
     }
@@ -83,10 +145,24 @@ public final class DatabaseChecks {
         return sqlCheck("column [" + position + "]", function, check);
     }
 
+    /**
+     * Check of a column identified by label. The label is resolved to column index only once per result set, and the
+     * value is then accessed by index on every row.
+     */
+    private static <R> Check<ResultSet> columnCheck(String label, ColumnGetter<R> getter, Check<? super R> check) {
+        ColumnIndex column = new ColumnIndex(label);
+        return sqlCheck(label, resultSet -> getter.get(resultSet, column.in(resultSet)), check);
+    }
+
+    @FunctionalInterface
+    private interface ColumnGetter<R> {
+        R get(ResultSet resultSet, int index) throws SQLException;
+    }
+
 
 
     public static <T> Check<ResultSet> column(String label, Class<T> type, Check<? super T> check) {
-        return sqlCheck(label, resultSet -> resultSet.getObject(label, type), check);
+        return columnCheck(label, (resultSet, index) -> resultSet.getObject(index, type), check);
     }
 
     public static <T> Check<ResultSet> column(int position, Class<T> type, Check<? super T> check) {
@@ -94,15 +170,47 @@ public final class DatabaseChecks {
     }
 
     public static Check<ResultSet> intColumn(String label, Check<? super Integer> check) {
-        return sqlCheck(label, resultSet -> resultSet.getInt(label), check);
+        return columnCheck(label, ResultSet::getInt, check);
     }
 
     public static Check<ResultSet> intColumn(int position, Check<? super Integer> check) {
         return sqlCheck(position, resultSet -> resultSet.getInt(position), check);
     }
 
+    /**
+     * Check of an int column identified by label, which reads and tests the value without boxing.
+     * SQL NULL is reported as failure.
+     *
+     * @param label Column label.
+     * @param check Check of the primitive value.
+     * @return Check of the result set row.
+     */
+    public static Check<ResultSet> intColumn(String label, IntCheck check) {
+        return new PrimitiveColumnCheck(new ColumnIndex(label), check, intReader(check));
+    }
+
+    public static Check<ResultSet> intColumn(int position, IntCheck check) {
+        return new PrimitiveColumnCheck(new ColumnIndex(position), check, intReader(check));
+    }
+
+    public static Check<ResultSet> longColumn(String label, Check<? super Long> check) {
+        return columnCheck(label, ResultSet::getLong, check);
+    }
+
+    public static Check<ResultSet> longColumn(int position, Check<? super Long> check) {
+        return sqlCheck(position, resultSet -> resultSet.getLong(position), check);
+    }
+
+    public static Check<ResultSet> longColumn(String label, LongCheck check) {
+        return new PrimitiveColumnCheck(new ColumnIndex(label), check, longReader(check));
+    }
+
+    public static Check<ResultSet> longColumn(int position, LongCheck check) {
+        return new PrimitiveColumnCheck(new ColumnIndex(position), check, longReader(check));
+    }
+
     public static Check<ResultSet> booleanColumn(String label, Check<? super Boolean> check) {
-        return sqlCheck(label, resultSet -> resultSet.getBoolean(label), check);
+        return columnCheck(label, ResultSet::getBoolean, check);
     }
 
     public static Check<ResultSet> booleanColumn(int position, Check<? super Boolean> check) {
@@ -110,7 +218,7 @@ public final class DatabaseChecks {
     }
 
     public static Check<ResultSet> stringColumn(String label, Check<? super String> check) {
-        return sqlCheck(label, resultSet -> resultSet.getString(label), check);
+        return columnCheck(label, ResultSet::getString, check);
     }
 
     public static Check<ResultSet> stringColumn(int position, Check<? super String> check) {
@@ -118,15 +226,23 @@ public final class DatabaseChecks {
     }
 
     public static Check<ResultSet> doubleColumn(String label, Check<? super Double> check) {
-        return sqlCheck(label, resultSet -> resultSet.getDouble(label), check);
+        return columnCheck(label, ResultSet::getDouble, check);
     }
 
     public static Check<ResultSet> doubleColumn(int position, Check<? super Double> check) {
         return sqlCheck(position, resultSet -> resultSet.getDouble(position), check);
     }
 
+    public static Check<ResultSet> doubleColumn(String label, DoubleCheck check) {
+        return new PrimitiveColumnCheck(new ColumnIndex(label), check, doubleReader(check));
+    }
+
+    public static Check<ResultSet> doubleColumn(int position, DoubleCheck check) {
+        return new PrimitiveColumnCheck(new ColumnIndex(position), check, doubleReader(check));
+    }
+
     public static Check<ResultSet> byteColumn(String label, Check<? super Byte> check) {
-        return sqlCheck(label, resultSet -> resultSet.getByte(label), check);
+        return columnCheck(label, ResultSet::getByte, check);
     }
 
     public static Check<ResultSet> byteColumn(int position, Check<? super Byte> check) {
@@ -134,7 +250,7 @@ public final class DatabaseChecks {
     }
 
     public static Check<ResultSet> bytesColumn(String label, Check<? super byte[]> check) {
-        return sqlCheck(label, resultSet -> resultSet.getBytes(label), check);
+        return columnCheck(label, ResultSet::getBytes, check);
     }
 
     public static Check<ResultSet> bytesColumn(int position, Check<? super byte[]> check) {
@@ -167,4 +283,65 @@ public final class DatabaseChecks {
     public static Check<PreparedStatement> executeQuery(Check<? super ResultSet> check) {
         return has("", (Transformation<PreparedStatement, ResultSet>) PreparedStatement::executeQuery).matching(check);
     }
+
+    /**
+     * Execute prepared statement with given fetch size, and apply the check on the result set.
+     *
+     * @param fetchSize Number of records fetched from the database in one round trip.
+     * @param check Check of the result set.
+     * @return Check of the prepared statement.
+     */
+    public static Check<PreparedStatement> executeQuery(int fetchSize, Check<? super ResultSet> check) {
+        return has("", (Transformation<PreparedStatement, ResultSet>) statement -> {
+            statement.setFetchSize(fetchSize);
+            return statement.executeQuery();
+        }).matching(check);
+    }
+
+    /**
+     * Check of many lookups by key, executed in batches. Query needs to contain IN list with single parameter, e.g.
+     * "SELECT * FROM PERSON WHERE ID IN (?)", which is expanded for all keys in a batch, and no other parameter.
+     * Records of the result are mapped back to keys using the key column, and the check of every key is applied on
+     * a result set of records of that key only, positioned before the first record (as if the query was executed for
+     * that key alone). Every key needs to have at least one record. Records of one batch are buffered in memory.
+     *
+     * @param sql Parameterized query.
+     * @param keyColumn Label of the column containing the key.
+     * @param batchSize Maximal number of keys in one query.
+     * @param checks Checks of records per key.
+     * @param <K> Type of the key.
+     * @return Check of the connection.
+     */
+    public static <K> Check<Connection> lookupInBatches(String sql, String keyColumn, int batchSize, Map<K, ? extends Check<? super ResultSet>> checks) {
+        return new BatchedLookupCheck<>(sql, keyColumn, batchSize, new LinkedHashMap<>(checks));
+    }
+
+    /**
+     * Check, that every key has a record, executed in batches.
+     *
+     * @param sql Parameterized query.
+     * @param keyColumn Label of the column containing the key.
+     * @param batchSize Maximal number of keys in one query.
+     * @param keys Keys, which need to exist.
+     * @param <K> Type of the key.
+     * @return Check of the connection.
+     * @see #lookupInBatches(String, String, int, Map)
+     */
+    public static <K> Check<Connection> lookupInBatches(String sql, String keyColumn, int batchSize, Collection<K> keys) {
+        Map<K, Check<Object>> checks = new LinkedHashMap<>();
+        keys.forEach(key -> checks.put(key, anything()));
+        return lookupInBatches(sql, keyColumn, batchSize, checks);
+    }
+
+    /**
+     * Check of a query result, applicable on a connection. The query uses forward only, read only result set, which can
+     * be further configured (parameters, fetch size), and it's cancelled as soon as the result set check is decided.
+     *
+     * @param sql SQL query.
+     * @param check Check of the result set.
+     * @return Check of the connection.
+     */
+    public static QueryCheck query(String sql, Check<? super ResultSet> check) {
+        return new QueryCheck(sql, check);
+    }
 }
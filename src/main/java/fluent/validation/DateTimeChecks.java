@@ -37,8 +37,10 @@ import fluent.validation.processor.Factory;
 
 import java.time.*;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalQuery;
 
 import static fluent.validation.BasicChecks.compose;
+import static fluent.validation.BasicChecks.requireNotNull;
 
 @Factory
 public final class DateTimeChecks {
@@ -85,7 +87,7 @@ public final class DateTimeChecks {
     }
 
     public static Check<String> parseLocalDateTime(DateTimeFormatter format, Check<? super LocalDateTime> check) {
-        return compose("parse using " + format, string -> LocalDateTime.parse(string, format), check);
+        return parse(format, LocalDateTime::from, check);
     }
 
     public static Check<String> parseZonedDateTime(Check<? super ZonedDateTime> check) {
@@ -97,7 +99,15 @@ public final class DateTimeChecks {
     }
 
     public static Check<String> parseZonedDateTime(DateTimeFormatter format, Check<? super ZonedDateTime> check) {
-        return compose(string -> ZonedDateTime.parse(string, format), check);
+        return parse(format, ZonedDateTime::from, check);
+    }
+
+    /*
+     * Malformed strings are detected without exceptions in the same pass, which parses valid ones, and reported cheaply
+     * as error with the same exception type and message as the respective parse methods would throw.
+     */
+    private static <V> Check<String> parse(DateTimeFormatter format, TemporalQuery<V> query, Check<? super V> check) {
+        return requireNotNull(new NamedCheck<>("parse using " + format, new ParseCheck<>(Parsers.dateTimeParser(format, query), check)));
     }
 
 }
@@ -32,25 +32,35 @@ package fluent.validation;
 import fluent.validation.result.Result;
 import fluent.validation.result.ResultFactory;
 
-final class DoubleCheck<D> implements Check<D> {
-
-    private final Check<? super D> requirement;
-    private final Check<? super D> check;
+/**
+ * Check specialized for primitive double values. It allows testing of the values without boxing them.
+ * When applied on Double, null value is reported as failure.
+ */
+@FunctionalInterface
+public interface DoubleCheck extends Check<Double> {
 
-    DoubleCheck(Check<? super D> requirement, Check<? super D> check) {
-        this.requirement = requirement;
-        this.check = check;
-    }
+    /**
+     * Test the primitive value.
+     *
+     * @param data Tested value.
+     * @return true if the value meets the check, false otherwise.
+     */
+    boolean test(double data);
 
-    @Override
-    public Result evaluate(D data, ResultFactory factory) {
-        Result requirementResult = requirement.evaluate(data, factory);
-        return requirementResult.failed() ? requirementResult : check.evaluate(data, factory);
+    /**
+     * Evaluate the check on primitive value, providing result.
+     *
+     * @param data Tested value.
+     * @param factory Result factory responsible for creating result tree from current node.
+     * @return representation of outcome of the test.
+     */
+    default Result evaluate(double data, ResultFactory factory) {
+        return factory.expectation(this, test(data));
     }
 
     @Override
-    public String toString() {
-        return check.toString();
+    default Result evaluate(Double data, ResultFactory factory) {
+        return data == null ? BasicChecks.isNotNull().evaluate(null, factory) : evaluate(data.doubleValue(), factory);
     }
 
 }
@@ -0,0 +1,70 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2021, Ondrej Fischer
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package fluent.validation;
+
+import fluent.validation.result.Result;
+
+/**
+ * Incremental (online) evaluation of a check on a sequence of items.
+ * Items are fed one by one as they arrive, and the evaluation can tell as soon as the result is decided, so the rest
+ * of the sequence doesn't need to be read at all. It allows to attach a check to a live stream of events without
+ * materializing it.
+ *
+ * Evaluation holds only the state needed for the matching itself (e.g. index of the check to satisfy next, or items
+ * paired with checks for any order matching), which is bounded by number of the checks. Detail of the evaluation
+ * is collected by the result factory used to start it, so for long sequences the evaluation should be started
+ * retaining detail of the most recent items only (see SequenceCheck.evaluation(ResultFactory, int)).
+ *
+ * @param <D> Type of the items.
+ */
+public interface Evaluation<D> {
+
+    /**
+     * Feed next item of the sequence. Items fed after the result was decided are ignored.
+     *
+     * @param item Next item.
+     * @return True if the result is decided, and no more items are needed.
+     */
+    boolean feed(D item);
+
+    /**
+     * @return True if the result is decided, and no more items are needed.
+     */
+    boolean decided();
+
+    /**
+     * Get the result of the evaluation. If the result is not decided yet, the sequence is considered to be finished,
+     * so e.g. missing items are reported.
+     *
+     * @return Result of the evaluation.
+     */
+    Result result();
+
+}
@@ -0,0 +1,137 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2021, Ondrej Fischer
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package fluent.validation;
+
+import fluent.validation.processor.Factory;
+import org.w3c.dom.Document;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+
+import static fluent.validation.XmlEngines.documentBuilder;
+
+/**
+ * Checks of file content. All checks are applied on file path, and access the file using memory mapped windows
+ * (see system property check.file.window.size), so the content is never copied to heap as a whole, and even files
+ * larger than available memory can be checked.
+ *
+ * Lines and CSV records are provided lazily as iterator, so they can be checked using iterator checks from
+ * CollectionChecks (e.g. everyItem(), existsItem(), contains(), startsWith()), and reading stops as soon as the check
+ * is decided.
+ */
+@Factory
+public final class FileChecks {
+
+    private FileChecks() {}
+
+    public static Check<String> fileSize(Check<? super Long> check) {
+        return BasicChecks.requireNotNull(new MappedFileCheck<>("file size", MappedFile::size, check));
+    }
+
+    public static Check<String> fileCrc32(Check<? super Long> check) {
+        return BasicChecks.requireNotNull(new MappedFileCheck<>("file crc32", MappedFile::crc32, check));
+    }
+
+    /**
+     * Check, that file contains provided sequence of bytes.
+     *
+     * @param bytes Searched bytes.
+     * @return File name check.
+     */
+    public static Check<String> fileContains(byte[] bytes) {
+        BytePattern needle = new BytePattern(bytes);
+        return BasicChecks.requireNotNull(new MappedFileCheck<>("file", file -> file.indexOf(needle), BasicChecks.check(
+                index -> index >= 0, "contains bytes " + needle
+        )));
+    }
+
+    /**
+     * Check, that file contains provided text encoded in UTF-8.
+     *
+     * @param text Searched text.
+     * @return File name check.
+     */
+    public static Check<String> fileContains(String text) {
+        BytePattern needle = new BytePattern(text.getBytes(StandardCharsets.UTF_8));
+        return BasicChecks.requireNotNull(new MappedFileCheck<>("file", file -> file.indexOf(needle), BasicChecks.check(
+                index -> index >= 0, "contains \"" + text + "\""
+        )));
+    }
+
+    /**
+     * Check lines of the file using an iterator check. Lines are terminated by \n or \r\n, and decoded using provided
+     * charset.
+     *
+     * @param charset Charset of the file.
+     * @param check Check of the lines.
+     * @return File name check.
+     */
+    public static Check<String> fileLines(Charset charset, Check<? super Iterator<String>> check) {
+        return BasicChecks.requireNotNull(new MappedFileCheck<>("file lines", file -> file.lines(charset), check));
+    }
+
+    public static Check<String> fileLines(Check<? super Iterator<String>> check) {
+        return fileLines(StandardCharsets.UTF_8, check);
+    }
+
+    /**
+     * Check records of a CSV file using an iterator check. Fields can be enclosed in double quotes, in which case they
+     * can contain separator, line breaks and double quotes escaped by another double quote.
+     *
+     * @param separator Field separator.
+     * @param charset Charset of the file.
+     * @param check Check of the records.
+     * @return File name check.
+     */
+    public static Check<String> csvFile(char separator, Charset charset, Check<? super Iterator<List<String>>> check) {
+        return BasicChecks.requireNotNull(new MappedFileCheck<>("csv records", file -> file.csv(separator, charset), check));
+    }
+
+    public static Check<String> csvFile(char separator, Check<? super Iterator<List<String>>> check) {
+        return csvFile(separator, StandardCharsets.UTF_8, check);
+    }
+
+    public static Check<String> csvFile(Check<? super Iterator<List<String>>> check) {
+        return csvFile(',', check);
+    }
+
+    /**
+     * Parse memory mapped XML file, and check it using DOM Document check.
+     *
+     * @param check DOM Document check.
+     * @return File name check.
+     */
+    public static Check<String> xmlFile(Check<? super Document> check) {
+        return BasicChecks.requireNotNull(new MappedFileCheck<>("xml file", file -> documentBuilder().parse(file.inputStream()), check));
+    }
+
+}
@@ -33,6 +33,7 @@ import java.util.*;
 import java.util.concurrent.BlockingQueue;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 public final class Functions {
     private Functions() {}
@@ -100,6 +101,9 @@ public final class Functions {
      * Adapt BlockingQueue to Iterator. It uses blocking poll() when attempt to get next element, so it allows testing
      * of asynchronous streams, making the iterable check to wait for future updates within given timeout.
      *
+     * The timeout applies to every single poll, so it's the maximal gap between two consecutive elements, not
+     * the overall time of the iteration.
+     *
      * @param queue Blocking queue.
      * @param timeout timeout in milliseconds indicating end of the queue.
      * @param <D> Type of the elements in the iterable.
@@ -132,4 +136,58 @@ public final class Functions {
         };
     }
 
+    /**
+     * Adapt BlockingQueue to Iterator, draining available elements in batches.
+     * Unlike blockingQueueIterator(), the timeout is an absolute deadline for the whole iteration, counted from the
+     * moment the iterator is created. Already available elements are moved to a local buffer using single drainTo()
+     * call (up to batchSize of them), so a lock of the queue is not acquired for every element. Blocking poll() is
+     * used only when the buffer as well as the queue are empty, and only for the remaining time before the deadline.
+     *
+     * The queue is accessed lazily, only when the check asks for next element, so a check, which gets decided earlier
+     * doesn't wait for any further elements.
+     *
+     * @param queue Blocking queue.
+     * @param timeout Overall timeout in milliseconds, after which the queue is considered to be finished.
+     * @param batchSize Maximal number of elements drained from the queue at once.
+     * @param <D> Type of the elements in the iterable.
+     * @return Iterator.
+     */
+    public static <D> Iterator<D> batchingQueueIterator(BlockingQueue<D> queue, long timeout, int batchSize) {
+        if(batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+        return new Iterator<D>() {
+            private final long deadline = System.nanoTime() + MILLISECONDS.toNanos(timeout);
+            private final Deque<D> buffer = new ArrayDeque<>(Math.min(batchSize, 1024));
+
+            @Override
+            public boolean hasNext() {
+                if(buffer.isEmpty() && queue.drainTo(buffer, batchSize) == 0) {
+                    D data = poll(deadline - System.nanoTime());
+                    if(data != null) {
+                        buffer.add(data);
+                    }
+                }
+                return !buffer.isEmpty();
+            }
+
+            @Override
+            public D next() {
+                if(!hasNext()) {
+                    throw new NoSuchElementException("No element received within " + timeout + "ms");
+                }
+                return buffer.poll();
+            }
+
+            private D poll(long remaining) {
+                try {
+                    return remaining > 0 ? queue.poll(remaining, NANOSECONDS) : null;
+                } catch (InterruptedException e) {
+                    throw new UncheckedInterruptedException(e, e);
+                }
+            }
+
+        };
+    }
+
 }
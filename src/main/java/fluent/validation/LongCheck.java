@@ -0,0 +1,66 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2021, Ondrej Fischer
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package fluent.validation;
+
+import fluent.validation.result.Result;
+import fluent.validation.result.ResultFactory;
+
+/**
+ * Check specialized for primitive long values. It allows testing of the values without boxing them.
+ * When applied on Long, null value is reported as failure.
+ */
+@FunctionalInterface
+public interface LongCheck extends Check<Long> {
+
+    /**
+     * Test the primitive value.
+     *
+     * @param data Tested value.
+     * @return true if the value meets the check, false otherwise.
+     */
+    boolean test(long data);
+
+    /**
+     * Evaluate the check on primitive value, providing result.
+     *
+     * @param data Tested value.
+     * @param factory Result factory responsible for creating result tree from current node.
+     * @return representation of outcome of the test.
+     */
+    default Result evaluate(long data, ResultFactory factory) {
+        return factory.expectation(this, test(data));
+    }
+
+    @Override
+    default Result evaluate(Long data, ResultFactory factory) {
+        return data == null ? BasicChecks.isNotNull().evaluate(null, factory) : evaluate(data.longValue(), factory);
+    }
+
+}
@@ -0,0 +1,368 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2021, Ondrej Fischer
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package fluent.validation;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.zip.CRC32;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+
+/**
+ * Read only file accessed through memory mapped windows. The file is never copied to heap as a whole, only the
+ * currently processed window is mapped (size of the window can be set using system property check.file.window.size,
+ * default is 64 MB), so even files larger than 2 GB (limit of a single mapped buffer) can be processed.
+ *
+ * Lines and CSV records are split directly on the mapped bytes (line feed, carriage return, quote and separator are
+ * single byte characters in UTF-8 as well as in all ASCII compatible charsets), and only the resulting values are
+ * decoded into strings.
+ */
+final class MappedFile implements Closeable {
+
+    private static final int WINDOW_SIZE = Integer.getInteger("check.file.window.size", 1 << 26);
+
+    private final FileChannel channel;
+    private final long size;
+    private final int windowSize;
+
+    MappedFile(Path path) throws IOException {
+        this(path, WINDOW_SIZE);
+    }
+
+    MappedFile(Path path, int windowSize) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.size = channel.size();
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Get path of a regular file denoted by the location.
+     *
+     * @param location File path or URI.
+     * @return Path of the file, or null if the location doesn't denote an existing regular file.
+     */
+    static Path regularFile(String location) {
+        try {
+            Path path = Paths.get(location);
+            return Files.isRegularFile(path) ? path : null;
+        } catch (InvalidPathException e) {
+            return null;
+        }
+    }
+
+    long size() {
+        return size;
+    }
+
+    private ByteBuffer window(long position, int length) throws IOException {
+        return channel.map(READ_ONLY, position, Math.min(length, size - position));
+    }
+
+    long crc32() throws IOException {
+        CRC32 crc = new CRC32();
+        for(long position = 0; position < size; position += windowSize) {
+            crc.update(window(position, windowSize));
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * Find first occurrence of the byte sequence. Subsequent windows overlap by length of the sequence - 1, so
+     * occurrences crossing window boundary are found too.
+     *
+     * @param needle Searched bytes.
+     * @return Position of the first occurrence, or -1 if the file doesn't contain the bytes.
+     */
+    long indexOf(BytePattern needle) throws IOException {
+        int n = needle.length();
+        if(n == 0) return 0;
+        int length = Math.max(windowSize, 2 * n);
+        for(long position = 0; size - position >= n; position += length - n + 1) {
+            ByteBuffer buffer = window(position, length);
+            int index = needle.indexIn(buffer, 0, buffer.limit());
+            if(index >= 0) return position + index;
+            if(position + buffer.limit() >= size) break;
+        }
+        return -1;
+    }
+
+    InputStream inputStream() {
+        return new MappedInputStream();
+    }
+
+    /**
+     * Lazily split the file into lines terminated by \n or \r\n.
+     *
+     * @param charset Charset used to decode the lines.
+     * @return Iterator of lines.
+     */
+    Iterator<String> lines(Charset charset) {
+        Cursor cursor = new Cursor(charset);
+        return new Records<String>() {
+            @Override
+            String read() throws IOException {
+                cursor.mark(0);
+                int c;
+                do {
+                    c = cursor.read();
+                    if(c < 0) {
+                        return cursor.marked() == 0 ? null : cursor.text(0);
+                    }
+                } while(c != '\n');
+                return cursor.text(cursor.precedes('\r') ? 2 : 1);
+            }
+        };
+    }
+
+    /**
+     * Lazily split the file into CSV records (RFC 4180). Fields can be enclosed in double quotes, in which case they
+     * can contain separators, line breaks, and double quotes escaped by another double quote.
+     *
+     * @param separator Field separator.
+     * @param charset Charset used to decode the fields.
+     * @return Iterator of records.
+     */
+    Iterator<List<String>> csv(char separator, Charset charset) {
+        Cursor cursor = new Cursor(charset);
+        return new Records<List<String>>() {
+            @Override
+            List<String> read() throws IOException {
+                int c = cursor.read();
+                if(c < 0) return null;
+                List<String> record = new ArrayList<>();
+                while(true) {
+                    if(c < 0) {
+                        record.add("");
+                        return record;
+                    }
+                    if(c == '"') {
+                        cursor.mark(0);
+                        boolean escaped = false;
+                        while((c = cursor.read()) != '"' || (c = cursor.read()) == '"') {
+                            if(c < 0) throw new IllegalStateException("Unterminated quoted field at position " + cursor.position());
+                            escaped |= c == '"';
+                        }
+                        String field = cursor.text(c < 0 ? 1 : 2);
+                        record.add(escaped ? field.replace("\"\"", "\"") : field);
+                        if(c == '\r') c = cursor.read();
+                        if(c >= 0 && c != separator && c != '\n') {
+                            throw new IllegalStateException("Unexpected character after quoted field at position " + cursor.position());
+                        }
+                    } else {
+                        cursor.mark(1);
+                        while(c >= 0 && c != separator && c != '\n') {
+                            c = cursor.read();
+                        }
+                        record.add(cursor.text(c < 0 ? 0 : c == '\n' && cursor.precedes('\r') ? 2 : 1));
+                    }
+                    if(c != separator) return record;
+                    c = cursor.read();
+                }
+            }
+        };
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Sequential reader of the file bytes with support of marking start of a value. If the marked value crosses
+     * window boundary, its beginning is spilled to a heap buffer, otherwise it's decoded directly from the window.
+     */
+    private final class Cursor {
+
+        private final Charset charset;
+        private final CharsetDecoder decoder;
+        private ByteBuffer buffer = ByteBuffer.allocate(0);
+        private long next;
+        private int mark = -1;
+        private byte[] spill = new byte[64];
+        private int spilled;
+
+        private Cursor(Charset charset) {
+            this.charset = charset;
+            this.decoder = charset.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+
+        int read() throws IOException {
+            if(!buffer.hasRemaining()) {
+                if(next >= size) return -1;
+                if(mark >= 0) {
+                    spill(mark, buffer.limit());
+                    mark = 0;
+                }
+                buffer = window(next, windowSize);
+                next += buffer.limit();
+            }
+            return buffer.get() & 0xFF;
+        }
+
+        long position() {
+            return next - buffer.remaining();
+        }
+
+        /**
+         * Mark start of a value.
+         *
+         * @param back Number of already read bytes, which belong to the value.
+         */
+        void mark(int back) {
+            mark = buffer.position() - back;
+            spilled = 0;
+        }
+
+        long marked() {
+            return spilled + buffer.position() - mark;
+        }
+
+        /**
+         * Check the byte preceding the last read one.
+         */
+        boolean precedes(char c) {
+            long index = marked() - 2;
+            return index >= spilled ? buffer.get(mark + (int) index - spilled) == c : index >= 0 && spill[(int) index] == c;
+        }
+
+        /**
+         * Decode the marked value.
+         *
+         * @param trailing Number of the last read bytes, which don't belong to the value.
+         * @return Decoded value.
+         */
+        String text(int trailing) throws IOException {
+            int end = buffer.position();
+            int start = mark;
+            mark = -1;
+            if(spilled == 0) {
+                ByteBuffer value = buffer.duplicate();
+                value.position(start).limit(end - trailing);
+                return decoder.decode(value).toString();
+            }
+            spill(start, end);
+            return new String(spill, 0, spilled - trailing, charset);
+        }
+
+        private void spill(int start, int end) {
+            int length = end - start;
+            if(spilled + length > spill.length) {
+                spill = Arrays.copyOf(spill, Math.max(2 * spill.length, spilled + length));
+            }
+            ByteBuffer source = buffer.duplicate();
+            source.position(start).limit(end);
+            source.get(spill, spilled, length);
+            spilled += length;
+        }
+
+    }
+
+    private abstract static class Records<T> implements Iterator<T> {
+
+        private T next;
+        private boolean finished;
+
+        abstract T read() throws IOException;
+
+        @Override
+        public boolean hasNext() {
+            if(next == null && !finished) try {
+                next = read();
+                finished = next == null;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return !finished;
+        }
+
+        @Override
+        public T next() {
+            if(!hasNext()) throw new NoSuchElementException();
+            T value = next;
+            next = null;
+            return value;
+        }
+
+    }
+
+    private final class MappedInputStream extends InputStream {
+
+        private ByteBuffer buffer = ByteBuffer.allocate(0);
+        private long next;
+
+        private boolean fill() throws IOException {
+            if(buffer.hasRemaining()) return true;
+            if(next >= size) return false;
+            buffer = window(next, windowSize);
+            next += buffer.limit();
+            return true;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return fill() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            if(length == 0) return 0;
+            if(!fill()) return -1;
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+
+    }
+
+}
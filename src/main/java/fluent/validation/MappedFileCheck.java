@@ -0,0 +1,82 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2021, Ondrej Fischer
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package fluent.validation;
+
+import fluent.validation.result.Result;
+import fluent.validation.result.ResultFactory;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+
+/**
+ * Check of a value read from memory mapped file. The file stays open (mapped) during the whole evaluation of the check,
+ * so lazily read values (e.g. iterator of lines) can be consumed by the check, and reading stops as soon as the check
+ * is decided.
+ *
+ * @param <V> Type of the value read from the file.
+ */
+final class MappedFileCheck<V> implements Check<String> {
+
+    @FunctionalInterface
+    interface Reader<V> {
+        V read(MappedFile file) throws Exception;
+    }
+
+    private final String name;
+    private final Reader<V> reader;
+    private final Check<? super V> check;
+
+    MappedFileCheck(String name, Reader<V> reader, Check<? super V> check) {
+        this.name = name;
+        this.reader = reader;
+        this.check = check;
+    }
+
+    @Override
+    public Result evaluate(String data, ResultFactory factory) {
+        Result result;
+        try(MappedFile file = new MappedFile(Paths.get(data))) {
+            result = check.evaluate(reader.read(file), factory);
+        } catch (UncheckedIOException failure) {
+            result = factory.error(failure.getCause());
+        } catch (UncheckedInterruptedException interrupted) {
+            throw interrupted;
+        } catch (Exception | Error unchecked) {
+            result = factory.error(unchecked);
+        }
+        return factory.named(name, result, result.passed());
+    }
+
+    @Override
+    public String toString() {
+        return name + " " + check;
+    }
+
+}
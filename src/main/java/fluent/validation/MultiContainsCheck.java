@@ -0,0 +1,79 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2021, Ondrej Fischer
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package fluent.validation;
+
+import fluent.validation.result.Result;
+import fluent.validation.result.ResultFactory;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Check, that a character sequence contains any or all of the substrings. All substrings are searched in a single pass using
+ * Aho-Corasick automaton built once when the check is created. The search stops as soon as the result is decided.
+ */
+final class MultiContainsCheck<D extends CharSequence> implements Check<D> {
+
+    private final AhoCorasick automaton;
+    private final boolean all;
+
+    MultiContainsCheck(boolean all, String... substrings) {
+        this.automaton = new AhoCorasick(substrings);
+        this.all = all;
+    }
+
+    @Override
+    public Result evaluate(D data, ResultFactory factory) {
+        if(data == null) {
+            return BasicChecks.isNotNull().evaluate(null, factory);
+        }
+        BitSet found = automaton.find(data, all);
+        boolean passed = all ? found.cardinality() == automaton.size() : !found.isEmpty();
+        List<Result> results = new ArrayList<>();
+        for(int i = 0; i < automaton.size(); i++) {
+            // Passed anyOf reports only the matched substrings, otherwise all substrings are reported.
+            if(all || !passed || found.get(i)) {
+                results.add(factory.expectation("contains " + automaton.needle(i), found.get(i)));
+            }
+        }
+        return factory.aggregation("", all ? " and " : " or ", results, passed);
+    }
+
+    @Override
+    public String toString() {
+        List<String> substrings = new ArrayList<>();
+        for(int i = 0; i < automaton.size(); i++) {
+            substrings.add(automaton.needle(i));
+        }
+        return "contains " + (all ? "all" : "any") + " of " + substrings;
+    }
+
+}
@@ -0,0 +1,236 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2021, Ondrej Fischer
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package fluent.validation;
+
+import fluent.validation.result.Aggregator;
+import fluent.validation.result.Result;
+import fluent.validation.result.ResultFactory;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Evaluation of multiple independent sequence checks on a single stream of items in one pass.
+ * Every item is fed only once to all registered checks, which are not decided yet. Decided checks are retired, so they
+ * don't cost anything for the following items.
+ *
+ * Checks can be registered together with a transformation of the item (e.g. extraction of a field). Registrations
+ * using the same transformation instance share its result, so the transformation is applied once per item
+ * regardless of number of checks using it.
+ *
+ * Multiplexer is itself an evaluation, so it can be fed with items, and provides aggregated result of all
+ * registered checks. Individual results are available via evaluations returned from registration.
+ *
+ * @param <T> Type of the items in the stream.
+ */
+public final class Multiplexer<T> implements Evaluation<T> {
+
+    private final ResultFactory factory;
+    private final ResultFactory evaluationFactory;
+    private final List<Object> checks = new ArrayList<>();
+    private final List<Evaluation<T>> evaluations = new ArrayList<>();
+    private final List<Evaluation<T>> live = new ArrayList<>();
+    private final Map<Transformation<? super T, ?>, SharedTransformation<T, ?>> transformations = new IdentityHashMap<>();
+    private long round;
+    private boolean feeding;
+
+    public Multiplexer(ResultFactory factory) {
+        this.factory = factory;
+        this.evaluationFactory = factory;
+    }
+
+    /**
+     * Create multiplexer, whose registered checks retain detail only for the most recent items, so memory doesn't
+     * grow with length of the stream.
+     *
+     * @param factory Result factory responsible for creating result tree.
+     * @param recentItems Number of the most recent items, whose results are retained by every check.
+     * @see SequenceCheck#evaluation(ResultFactory, int)
+     */
+    public Multiplexer(ResultFactory factory, int recentItems) {
+        this.factory = factory;
+        this.evaluationFactory = new RecentDetailFactory(factory, recentItems);
+    }
+
+    public Multiplexer() {
+        this(ResultFactory.DEFAULT);
+    }
+
+    /**
+     * Register a check to be evaluated on the items.
+     *
+     * @param check Sequence check of the items.
+     * @return Evaluation of the registered check, which provides the individual result.
+     */
+    @SuppressWarnings("unchecked")
+    public Evaluation<T> register(SequenceCheck<? super T> check) {
+        return add(check, (Evaluation<T>) check.evaluation(evaluationFactory));
+    }
+
+    /**
+     * Register a check to be evaluated on transformed items.
+     *
+     * @param transformation Transformation of every item. Result is shared with other checks registered with the same
+     *                       transformation instance.
+     * @param check Sequence check of the transformed items.
+     * @param <V> Type of the transformed items.
+     * @return Evaluation of the registered check, which provides the individual result.
+     */
+    @SuppressWarnings("unchecked")
+    public <V> Evaluation<T> register(Transformation<? super T, V> transformation, SequenceCheck<? super V> check) {
+        SharedTransformation<T, V> shared = (SharedTransformation<T, V>) transformations.computeIfAbsent(transformation, SharedTransformation::new);
+        return add(check, new TransformedEvaluation<>(shared, (Evaluation<V>) check.evaluation(evaluationFactory)));
+    }
+
+    private Evaluation<T> add(Object check, Evaluation<T> evaluation) {
+        checks.add(check);
+        evaluations.add(evaluation);
+        if(!evaluation.decided()) {
+            live.add(evaluation);
+        }
+        return evaluation;
+    }
+
+    @Override
+    public boolean feed(T item) {
+        round++;
+        feeding = true;
+        try {
+            for(int i = 0; i < live.size(); i++) {
+                if(live.get(i).feed(item)) {
+                    Evaluation<T> last = live.remove(live.size() - 1);
+                    if(i < live.size()) {
+                        live.set(i--, last);
+                    }
+                }
+            }
+        } finally {
+            feeding = false;
+        }
+        return live.isEmpty();
+    }
+
+    @Override
+    public boolean decided() {
+        return live.isEmpty();
+    }
+
+    @Override
+    public Result result() {
+        Aggregator resultBuilder = factory.aggregator(this);
+        boolean passed = true;
+        for(Evaluation<T> evaluation : evaluations) {
+            passed &= resultBuilder.add(evaluation.result()).passed();
+        }
+        return resultBuilder.build(passed ? "All checks satisfied" : "Some checks not satisfied", passed);
+    }
+
+    @Override
+    public String toString() {
+        return "all of " + checks;
+    }
+
+    private static final class SharedTransformation<T, V> {
+        private final Transformation<? super T, V> transformation;
+        private long round = -1;
+        private V value;
+        private Throwable error;
+
+        private SharedTransformation(Transformation<? super T, V> transformation) {
+            this.transformation = transformation;
+        }
+
+        /*
+         * Transformation is applied once per fed item (round), not per item identity, so a mutable item fed again
+         * after a change is transformed again.
+         */
+        private V apply(T item, long round) throws Throwable {
+            if(this.round != round) {
+                this.round = round;
+                try {
+                    value = transformation.apply(item);
+                    error = null;
+                } catch (UncheckedInterruptedException interrupted) {
+                    this.round = -1;
+                    throw interrupted;
+                } catch (Exception | Error unchecked) {
+                    value = null;
+                    error = unchecked;
+                }
+            }
+            if(error != null) {
+                throw error;
+            }
+            return value;
+        }
+    }
+
+    private final class TransformedEvaluation<V> implements Evaluation<T> {
+        private final SharedTransformation<T, V> transformation;
+        private final Evaluation<V> evaluation;
+        private Result error;
+
+        private TransformedEvaluation(SharedTransformation<T, V> transformation, Evaluation<V> evaluation) {
+            this.transformation = transformation;
+            this.evaluation = evaluation;
+        }
+
+        @Override
+        public boolean feed(T item) {
+            if(decided()) {
+                return true;
+            }
+            V value;
+            try {
+                // Evaluation fed directly (not via the multiplexer) starts its own round.
+                value = transformation.apply(item, feeding ? round : ++round);
+            } catch (UncheckedInterruptedException interrupted) {
+                throw interrupted;
+            } catch (Throwable unchecked) {
+                error = factory.error(unchecked);
+                return true;
+            }
+            return evaluation.feed(value);
+        }
+
+        @Override
+        public boolean decided() {
+            return error != null || evaluation.decided();
+        }
+
+        @Override
+        public Result result() {
+            return error != null ? error : evaluation.result();
+        }
+    }
+
+}
@@ -0,0 +1,207 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2021, Ondrej Fischer
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package fluent.validation;
+
+import fluent.validation.processor.Factory;
+
+import static fluent.validation.BasicChecks.compose;
+import static fluent.validation.BasicChecks.requireNotNull;
+
+/**
+ * Checks of whole primitive arrays (e.g. large numeric buffers). Unlike generic array checks, which iterate boxed
+ * items and evaluate item check on each of them, these checks scan the primitive values in tight loops, which JIT
+ * can unroll (range checks reduce minimum and maximum per block, which it can also vectorize). Only the first
+ * mismatching item is reported, and no result is created for passing items.
+ */
+@Factory
+public final class NumericArrayChecks {
+
+    private NumericArrayChecks() {}
+
+    /* ------------------------------------------------------------------------------------------------------
+     * Range of all items (inclusive, boundaries accepted in any order).
+     * ------------------------------------------------------------------------------------------------------
+     */
+
+    public static Check<int[]> intArrayInRange(int left, int right) {
+        return new PrimitiveArrayCheck.IntRange(Math.min(left, right), Math.max(left, right));
+    }
+
+    public static Check<long[]> longArrayInRange(long left, long right) {
+        return new PrimitiveArrayCheck.LongRange(Math.min(left, right), Math.max(left, right));
+    }
+
+    /**
+     * Check, that all items of a double array are within the range (inclusive). NaN is never within any range.
+     *
+     * @param left One boundary of the range.
+     * @param right Other boundary of the range.
+     * @return Check of the double array.
+     */
+    public static Check<double[]> doubleArrayInRange(double left, double right) {
+        return new PrimitiveArrayCheck.DoubleRange(Math.min(left, right), Math.max(left, right));
+    }
+
+    /* ------------------------------------------------------------------------------------------------------
+     * Monotonic arrays.
+     * ------------------------------------------------------------------------------------------------------
+     */
+
+    public static Check<int[]> intArrayAscending() {
+        return new PrimitiveArrayCheck.IntMonotonic(false, false);
+    }
+
+    public static Check<int[]> intArrayStrictlyAscending() {
+        return new PrimitiveArrayCheck.IntMonotonic(false, true);
+    }
+
+    public static Check<int[]> intArrayDescending() {
+        return new PrimitiveArrayCheck.IntMonotonic(true, false);
+    }
+
+    public static Check<int[]> intArrayStrictlyDescending() {
+        return new PrimitiveArrayCheck.IntMonotonic(true, true);
+    }
+
+    public static Check<long[]> longArrayAscending() {
+        return new PrimitiveArrayCheck.LongMonotonic(false, false);
+    }
+
+    public static Check<long[]> longArrayStrictlyAscending() {
+        return new PrimitiveArrayCheck.LongMonotonic(false, true);
+    }
+
+    public static Check<long[]> longArrayDescending() {
+        return new PrimitiveArrayCheck.LongMonotonic(true, false);
+    }
+
+    public static Check<long[]> longArrayStrictlyDescending() {
+        return new PrimitiveArrayCheck.LongMonotonic(true, true);
+    }
+
+    public static Check<double[]> doubleArrayAscending() {
+        return new PrimitiveArrayCheck.DoubleMonotonic(false, false);
+    }
+
+    public static Check<double[]> doubleArrayStrictlyAscending() {
+        return new PrimitiveArrayCheck.DoubleMonotonic(false, true);
+    }
+
+    public static Check<double[]> doubleArrayDescending() {
+        return new PrimitiveArrayCheck.DoubleMonotonic(true, false);
+    }
+
+    public static Check<double[]> doubleArrayStrictlyDescending() {
+        return new PrimitiveArrayCheck.DoubleMonotonic(true, true);
+    }
+
+    /* ------------------------------------------------------------------------------------------------------
+     * Item by item comparison with tolerance.
+     * ------------------------------------------------------------------------------------------------------
+     */
+
+    /**
+     * Check, that a double array has the same length as the expected one, and every item is close to the item at the
+     * same index in the expected array, given the explicit tolerance (see NumericChecks.closeTo()).
+     * The expected array is not copied, so it must not be modified, while the check is in use.
+     *
+     * @param expectedValues Expected values.
+     * @param precision Tolerance, which is still accepted as difference from the expected value.
+     * @return Check of the double array.
+     */
+    public static Check<double[]> doubleArrayCloseTo(double[] expectedValues, double precision) {
+        return new PrimitiveArrayCheck.DoublesCloseTo(expectedValues, precision);
+    }
+
+    /* ------------------------------------------------------------------------------------------------------
+     * Sum of items.
+     * ------------------------------------------------------------------------------------------------------
+     */
+
+    /**
+     * Check sum of int array items. The sum is computed as long, so it doesn't overflow.
+     *
+     * @param check Check of the sum.
+     * @return Check of the int array.
+     */
+    public static Check<int[]> intArraySum(Check<? super Long> check) {
+        return requireNotNull(compose("sum", NumericArrayChecks::sum, check));
+    }
+
+    /**
+     * Check sum of long array items. Sum overflowing long is reported as an error.
+     *
+     * @param check Check of the sum.
+     * @return Check of the long array.
+     */
+    public static Check<long[]> longArraySum(Check<? super Long> check) {
+        return requireNotNull(compose("sum", NumericArrayChecks::sum, check));
+    }
+
+    public static Check<double[]> doubleArraySum(Check<? super Double> check) {
+        return requireNotNull(compose("sum", NumericArrayChecks::sum, check));
+    }
+
+    public static Check<double[]> doubleArraySumCloseTo(double expectedValue, double precision) {
+        return doubleArraySum(NumericChecks.doubleCloseTo(expectedValue, precision));
+    }
+
+    private static long sum(int[] array) {
+        long sum = 0;
+        for(int item : array) sum += item;
+        return sum;
+    }
+
+    private static long sum(long[] array) {
+        long sum = 0;
+        for(long item : array) sum = Math.addExact(sum, item);
+        return sum;
+    }
+
+    /*
+     * Floating point addition is not associative, so JIT can't reorder a single accumulator. Four independent
+     * accumulators break the dependency chain (and also reduce the accumulated rounding error).
+     */
+    private static double sum(double[] array) {
+        double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = 0;
+        for(; i + 3 < array.length; i += 4) {
+            s0 += array[i];
+            s1 += array[i + 1];
+            s2 += array[i + 2];
+            s3 += array[i + 3];
+        }
+        for(; i < array.length; i++) {
+            s0 += array[i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+}
@@ -33,6 +33,7 @@ import fluent.validation.processor.Factory;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.function.Function;
 
 import static fluent.validation.BasicChecks.*;
 import static fluent.validation.Transformation.dontTransformNull;
@@ -48,7 +49,7 @@ import static java.lang.Math.abs;
 @Factory
 public final class NumericChecks {
 
-    private static final Double DEFAULT_TOLERANCE = Double.parseDouble(System.getProperty("check.default.tolerance", "0.000001"));
+    private static final double DEFAULT_TOLERANCE = Double.parseDouble(System.getProperty("check.default.tolerance", "0.000001"));
 
     private NumericChecks() {}
 
@@ -70,7 +71,7 @@ public final class NumericChecks {
      * @return Check of the double value.
      */
     public static Check<Double> closeTo(double expectedValue, double precision) {
-        return check(data -> abs(expectedValue - data) < precision, "<" + expectedValue + " ±" + precision + ">");
+        return doubleCloseTo(expectedValue, precision);
     }
 
     /**
@@ -105,6 +106,28 @@ public final class NumericChecks {
         return check(data -> expectedValue.subtract(data).abs().compareTo(precision) < 0, expectedValue + " ±" + precision);
     }
 
+    /**
+     * Primitive variant of {@link #closeTo(double, double)}, which tests the value without boxing.
+     *
+     * @param expectedValue Expected value.
+     * @param precision Tolerance, which is still accepted as difference from the expected value.
+     * @return Check of the primitive double value.
+     */
+    public static DoubleCheck doubleCloseTo(double expectedValue, double precision) {
+        return new DoublePredicateCheck("<" + expectedValue + " ±" + precision + ">", data -> abs(expectedValue - data) < precision);
+    }
+
+    /**
+     * Primitive variant of {@link #equalTo(Double)}, which tests the value without boxing, using the default tolerance.
+     *
+     * @param expectedValue Expected value, from which the actual shouldn't differ more, than by the default tolerance.
+     * @return Check of the primitive double equality.
+     * @see #DEFAULT_TOLERANCE
+     */
+    public static DoubleCheck doubleEqualTo(double expectedValue) {
+        return doubleCloseTo(expectedValue, DEFAULT_TOLERANCE);
+    }
+
     /**
      * Specific overloaded method for "tolerant" equalTo implementation for Double floating point values.
      * It's implemented using closeTo() with default tolerance, which is by default 0.000001, but can be specified
@@ -130,7 +153,7 @@ public final class NumericChecks {
      * @see #DEFAULT_TOLERANCE
      */
     public static Check<Float> equalTo(Float expectedValue) {
-        return expectedValue == null ? sameInstance(null) : closeTo(expectedValue, DEFAULT_TOLERANCE.floatValue());
+        return expectedValue == null ? sameInstance(null) : closeTo(expectedValue, (float) DEFAULT_TOLERANCE);
     }
 
     /**
@@ -147,6 +170,15 @@ public final class NumericChecks {
         return expectedValue == null ? sameInstance(null) : closeTo(expectedValue, BigDecimal.valueOf(DEFAULT_TOLERANCE));
     }
 
+    /*
+     * Strings are parsed without exceptions, so malformed numbers are reported as errors cheaply, but with the same
+     * exception type and message as the respective parse methods would throw. The check is named after the parse
+     * method, as composing the method reference did, so the rendering of results is kept.
+     */
+    private static <V> Check<String> parse(String name, Parsers.Parser<V> parser, Function<String, ? extends Throwable> failure, Check<? super V> check) {
+        return new NamedCheck<>(name, new ParseCheck<>(parser, failure, check));
+    }
+
     /**
      * Check of the string containing double number implemented by composition of parsing double from string and
      * application of check of the Double value.
@@ -155,7 +187,7 @@ public final class NumericChecks {
      * @return Check applicable on String.
      */
     public static Check<String> parseDouble(Check<? super Double> check) {
-        return compose(dontTransformNull(Double::parseDouble), check);
+        return parse("parseDouble", Parsers::parseDouble, Parsers::floatingPointFailure, check);
     }
 
     /**
@@ -181,7 +213,7 @@ public final class NumericChecks {
     }
 
     public static Check<String> parseFloat(Check<? super Float> check) {
-        return compose(dontTransformNull(Float::parseFloat), check);
+        return parse("parseFloat", Parsers::parseFloat, Parsers::floatingPointFailure, check);
     }
 
     public static Check<String> parseFloat(Float expectedValue) {
@@ -193,7 +225,7 @@ public final class NumericChecks {
     }
 
     public static Check<String> parseInt(Check<? super Integer> check) {
-        return compose(dontTransformNull(Integer::parseInt), check);
+        return parse("parseInt", Parsers::parseInt, Parsers::numberFailure, check);
     }
 
     public static Check<String> parseInt(Integer expectedValue) {
@@ -205,7 +237,7 @@ public final class NumericChecks {
     }
 
     public static Check<String> parseLong(Check<? super Long> check) {
-        return compose(dontTransformNull(Long::parseLong), check);
+        return parse("parseLong", Parsers::parseLong, Parsers::numberFailure, check);
     }
 
     public static Check<String> parseLong(Long expectedValue) {
@@ -217,7 +249,7 @@ public final class NumericChecks {
     }
 
     public static Check<String> parseShort(Check<? super Short> check) {
-        return compose(dontTransformNull(Short::parseShort), check);
+        return parse("parseShort", Parsers::parseShort, Parsers::rangeFailure, check);
     }
 
     public static Check<String> parseShort(Short expectedValue) {
@@ -229,15 +261,15 @@ public final class NumericChecks {
     }
 
     public static Check<String> parseBigDecimal(Check<? super BigDecimal> check) {
-        return compose(dontTransformNull(BigDecimal::new), check);
+        return parse("parseBigDecimal", Parsers::parseBigDecimal, Parsers::decimalFailure, check);
     }
 
     public static Check<String> parseBigInt(Check<? super BigInteger> check) {
-        return compose(dontTransformNull(BigInteger::new), check);
+        return parse("parseBigInt", Parsers::parseBigInteger, Parsers::numberFailure, check);
     }
 
     public static Check<String> parseByte(Check<? super Byte> check) {
-        return compose(dontTransformNull(Byte::parseByte), check);
+        return parse("parseByte", Parsers::parseByte, Parsers::rangeFailure, check);
     }
 
     public static Check<String> parseByte(Byte expectedValue) {
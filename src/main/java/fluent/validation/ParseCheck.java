@@ -0,0 +1,83 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2021, Ondrej Fischer
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package fluent.validation;
+
+import fluent.validation.result.Result;
+import fluent.validation.result.ResultFactory;
+
+import java.util.function.Function;
+
+/**
+ * Check of a string parsed by a non-throwing parser. Malformed input is reported as error result with a failure
+ * created without throwing (and without stack trace). Null string is not parsed, and the check is applied on null.
+ * Parser without failure reports malformed input by throwing such failure itself, and null parsed value is checked.
+ *
+ * @param <V> Type of the parsed value.
+ */
+final class ParseCheck<V> implements Check<String> {
+
+    private final Parsers.Parser<V> parser;
+    private final Function<String, ? extends Throwable> failure;
+    private final Check<? super V> check;
+
+    ParseCheck(Parsers.Parser<V> parser, Function<String, ? extends Throwable> failure, Check<? super V> check) {
+        this.parser = parser;
+        this.failure = failure;
+        this.check = check;
+    }
+
+    ParseCheck(Parsers.Parser<V> parser, Check<? super V> check) {
+        this(parser, null, check);
+    }
+
+    @Override
+    public Result evaluate(String data, ResultFactory factory) {
+        V value = null;
+        if(data != null) {
+            try {
+                value = parser.parse(data);
+            } catch (UncheckedInterruptedException interrupted) {
+                throw interrupted;
+            } catch (Exception | Error unchecked) {
+                return factory.error(unchecked);
+            }
+            if(value == null && failure != null) {
+                return factory.error(failure.apply(data));
+            }
+        }
+        return factory.actual(value, check.evaluate(value, factory));
+    }
+
+    @Override
+    public String toString() {
+        return "" + check;
+    }
+
+}
@@ -0,0 +1,299 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2021, Ondrej Fischer
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package fluent.validation;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.text.Format;
+import java.text.ParsePosition;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalQuery;
+
+/**
+ * Parsers, which don't use exceptions to detect malformed input. Number parsers return null if the input is malformed,
+ * and only then the failure describing the problem is created, date and time parser throws such failure itself.
+ * The failures are exceptions of the same type and with the same message as the ones thrown by the standard parse
+ * methods, but without stack trace, so they are cheap.
+ */
+final class Parsers {
+
+    private Parsers() {}
+
+    interface Parser<V> {
+        V parse(String data);
+    }
+
+    /* ------------------------------------------------------------------------------------------------------
+     * Integral numbers (the same syntax as accepted by Long.parseLong()).
+     * ------------------------------------------------------------------------------------------------------
+     */
+
+    static Long parseLong(String data, long min, long max) {
+        int length = data.length();
+        if(length == 0) return null;
+        int i = 0;
+        boolean negative = false;
+        long limit = -Long.MAX_VALUE;
+        char first = data.charAt(0);
+        if(first < '0') {
+            if(first == '-') {
+                negative = true;
+                limit = Long.MIN_VALUE;
+            } else if(first != '+') {
+                return null;
+            }
+            if(length == 1) return null;
+            i++;
+        }
+        // Accumulate negatively, as in Long.parseLong(), so that Long.MIN_VALUE doesn't overflow.
+        long multiplicationLimit = limit / 10;
+        long result = 0;
+        while(i < length) {
+            int digit = Character.digit(data.charAt(i++), 10);
+            if(digit < 0 || result < multiplicationLimit) return null;
+            result *= 10;
+            if(result < limit + digit) return null;
+            result -= digit;
+        }
+        long value = negative ? result : -result;
+        return value < min || value > max ? null : value;
+    }
+
+    static Long parseLong(String data) {
+        return parseLong(data, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    static Integer parseInt(String data) {
+        Long value = parseLong(data, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        return value == null ? null : value.intValue();
+    }
+
+    static Short parseShort(String data) {
+        Integer value = parseInt(data);
+        return value == null || value < Short.MIN_VALUE || value > Short.MAX_VALUE ? null : value.shortValue();
+    }
+
+    static Byte parseByte(String data) {
+        Integer value = parseInt(data);
+        return value == null || value < Byte.MIN_VALUE || value > Byte.MAX_VALUE ? null : value.byteValue();
+    }
+
+    static BigInteger parseBigInteger(String data) {
+        int length = data.length();
+        int i = length > 0 && (data.charAt(0) == '-' || data.charAt(0) == '+') ? 1 : 0;
+        if(i == length) return null;
+        while(i < length) {
+            if(Character.digit(data.charAt(i++), 10) < 0) return null;
+        }
+        return new BigInteger(data);
+    }
+
+    /* ------------------------------------------------------------------------------------------------------
+     * Floating point numbers (the same syntax as accepted by Double.parseDouble()).
+     * ------------------------------------------------------------------------------------------------------
+     */
+
+    private static int digits(String data, int i, int end, int radix) {
+        while(i < end && Character.digit(data.charAt(i), radix) >= 0 && data.charAt(i) < 128) i++;
+        return i;
+    }
+
+    private static int exponent(String data, int i, int end) {
+        if(i < end && (data.charAt(i) == '-' || data.charAt(i) == '+')) i++;
+        int digits = digits(data, i, end, 10);
+        return digits > i ? digits : -1;
+    }
+
+    static boolean isFloatingPoint(String data) {
+        int start = 0;
+        int end = data.length();
+        while(start < end && data.charAt(start) <= ' ') start++;
+        while(end > start && data.charAt(end - 1) <= ' ') end--;
+        if(start < end && (data.charAt(start) == '-' || data.charAt(start) == '+')) start++;
+        if(data.startsWith("NaN", start) || data.startsWith("Infinity", start)) {
+            return end - start == (data.charAt(start) == 'N' ? 3 : 8);
+        }
+        if(start < end && "fFdD".indexOf(data.charAt(end - 1)) >= 0) end--;
+        boolean hex = end - start > 1 && data.charAt(start) == '0' && (data.charAt(start + 1) == 'x' || data.charAt(start + 1) == 'X');
+        int radix = hex ? 16 : 10;
+        int i = hex ? start + 2 : start;
+        int integral = digits(data, i, end, radix);
+        int mantissaDigits = integral - i;
+        i = integral;
+        if(i < end && data.charAt(i) == '.') {
+            int fraction = digits(data, ++i, end, radix);
+            mantissaDigits += fraction - i;
+            i = fraction;
+        }
+        if(mantissaDigits == 0) return false;
+        if(i < end && (hex ? data.charAt(i) == 'p' || data.charAt(i) == 'P' : data.charAt(i) == 'e' || data.charAt(i) == 'E')) {
+            i = exponent(data, i + 1, end);
+        } else if(hex) {
+            return false;
+        }
+        return i == end;
+    }
+
+    static Double parseDouble(String data) {
+        return isFloatingPoint(data) ? Double.parseDouble(data) : null;
+    }
+
+    static Float parseFloat(String data) {
+        return isFloatingPoint(data) ? Float.parseFloat(data) : null;
+    }
+
+    static BigDecimal parseBigDecimal(String data) {
+        int end = data.length();
+        int i = end > 0 && (data.charAt(0) == '-' || data.charAt(0) == '+') ? 1 : 0;
+        int digits = 0;
+        for(; i < end && Character.isDigit(data.charAt(i)); i++) digits++;
+        if(i < end && data.charAt(i) == '.') {
+            for(i++; i < end && Character.isDigit(data.charAt(i)); i++) digits++;
+        }
+        if(digits == 0) return null;
+        if(i < end && (data.charAt(i) == 'e' || data.charAt(i) == 'E')) {
+            if(++i < end && (data.charAt(i) == '-' || data.charAt(i) == '+')) i++;
+            if(i == end) return null;
+            while(i < end && Character.isDigit(data.charAt(i))) i++;
+        }
+        if(i != end) return null;
+        try {
+            return new BigDecimal(data);
+        } catch (NumberFormatException exponentOverflow) {
+            return null;
+        }
+    }
+
+    static NumberFormatException numberFailure(String data) {
+        return new MalformedNumber("For input string: \"" + data + "\"");
+    }
+
+    static NumberFormatException decimalFailure(String data) {
+        return new MalformedNumber(null);
+    }
+
+    static NumberFormatException rangeFailure(String data) {
+        return parseInt(data) == null ? numberFailure(data) : new MalformedNumber("Value out of range. Value:\"" + data + "\" Radix:10");
+    }
+
+    static NumberFormatException floatingPointFailure(String data) {
+        String trimmed = data.trim();
+        if(trimmed.isEmpty()) return new MalformedNumber("empty String");
+        int points = 0;
+        for(int i = trimmed.charAt(0) == '-' || trimmed.charAt(0) == '+' ? 1 : 0; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if(c == '.') points++;
+            else if(c < '0' || c > '9') break;
+        }
+        return points > 1 ? new MalformedNumber("multiple points") : numberFailure(trimmed);
+    }
+
+    /* ------------------------------------------------------------------------------------------------------
+     * Date and time.
+     * ------------------------------------------------------------------------------------------------------
+     */
+
+    /**
+     * Parser of date and time, which parses and resolves the input in one pass using the formatter as java.text.Format,
+     * as it reports malformed input by the parse position instead of exception. Malformed input is then reported by
+     * failure created from the same parse position, thrown without stack trace. Only well-formed input, which can't be
+     * resolved (e.g. 30th February), is parsed again to throw the exception of the resolution.
+     */
+    static <V> Parser<V> dateTimeParser(DateTimeFormatter format, TemporalQuery<V> query) {
+        Format parser = format.toFormat(query);
+        return data -> {
+            ParsePosition position = new ParsePosition(0);
+            @SuppressWarnings("unchecked")
+            V value = (V) parser.parseObject(data, position);
+            if(position.getErrorIndex() < 0 && position.getIndex() == data.length()) {
+                return value;
+            }
+            if(position.getErrorIndex() == 0 && position.getIndex() > 0) {
+                return format.parse(data, query);
+            }
+            throw dateTimeFailure(data, position);
+        };
+    }
+
+    private static DateTimeParseException dateTimeFailure(String data, ParsePosition position) {
+        String text = data.length() > 64 ? data.substring(0, 64) + "..." : data;
+        return position.getErrorIndex() < 0
+                ? new MalformedDateTime("Text '" + text + "' could not be parsed, unparsed text found at index " + position.getIndex(), data, position.getIndex())
+                : new MalformedDateTime("Text '" + text + "' could not be parsed at index " + position.getErrorIndex(), data, position.getErrorIndex());
+    }
+
+    /*
+     * Failures have no stack trace, as it's the expensive part of exception creation, and they are never thrown.
+     * They are rendered as the standard exceptions.
+     */
+
+    private static final class MalformedNumber extends NumberFormatException {
+
+        private static final long serialVersionUID = 1L;
+
+        private MalformedNumber(String message) {
+            super(message);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            String message = getLocalizedMessage();
+            return message == null ? NumberFormatException.class.getName() : NumberFormatException.class.getName() + ": " + message;
+        }
+
+    }
+
+    private static final class MalformedDateTime extends DateTimeParseException {
+
+        private static final long serialVersionUID = 1L;
+
+        private MalformedDateTime(String message, CharSequence parsedData, int errorIndex) {
+            super(message, parsedData, errorIndex);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return DateTimeParseException.class.getName() + ": " + getMessage();
+        }
+
+    }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2021, Ondrej Fischer
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package fluent.validation;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+/**
+ * Bounded cache of compiled regular expressions. Compiled patterns are immutable and thread safe, so they are shared
+ * by all threads. Size of the cache can be set using system property check.pattern.cache.size (default is 256).
+ */
+final class Patterns {
+
+    private static final int CACHE_SIZE = Integer.getInteger("check.pattern.cache.size", 256);
+
+    private static final ConcurrentMap<String, Pattern> CACHE = new ConcurrentHashMap<>();
+
+    private Patterns() {}
+
+    static Pattern compile(String regex) {
+        Pattern pattern = CACHE.get(regex);
+        if(pattern == null) {
+            pattern = Pattern.compile(regex);
+            if(CACHE.size() >= CACHE_SIZE) {
+                // Evict an arbitrary entry, as exact LRU order is not worth of synchronization of all lookups.
+                Iterator<String> eldest = CACHE.keySet().iterator();
+                if(eldest.hasNext()) {
+                    eldest.next();
+                    eldest.remove();
+                }
+            }
+            Pattern cached = CACHE.putIfAbsent(regex, pattern);
+            if(cached != null) {
+                pattern = cached;
+            }
+        }
+        return pattern;
+    }
+
+}
@@ -0,0 +1,309 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2021, Ondrej Fischer
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package fluent.validation;
+
+import fluent.validation.result.Result;
+import fluent.validation.result.ResultFactory;
+
+/**
+ * Check of a whole primitive array, which scans the array in a tight loop over the primitive values, and only
+ * creates a result describing the first mismatching element (if any). Passing elements don't produce any result.
+ *
+ * @param <A> Type of the primitive array.
+ */
+abstract class PrimitiveArrayCheck<A> implements Check<A> {
+
+    /**
+     * Size of blocks, in which range checks first reduce minimum and maximum (loop, that JIT can vectorize), and
+     * only rescan the block element by element, if it contains a mismatch.
+     */
+    static final int BLOCK = 1024;
+
+    private final String expectation;
+
+    PrimitiveArrayCheck(String expectation) {
+        this.expectation = expectation;
+    }
+
+    /**
+     * Find the first mismatching element.
+     *
+     * @param array Tested array.
+     * @return Index of the first mismatching element, or -1 if all elements match.
+     */
+    abstract int mismatch(A array);
+
+    /**
+     * Describe mismatching element.
+     *
+     * @param array Tested array.
+     * @param index Index of the mismatch.
+     * @return Description of the actual value at the index.
+     */
+    abstract String describe(A array, int index);
+
+    @Override
+    public Result evaluate(A data, ResultFactory factory) {
+        if(data == null) {
+            return BasicChecks.isNotNull().evaluate(null, factory);
+        }
+        int index = mismatch(data);
+        return index < 0
+                ? factory.expectation(this, true)
+                : factory.actual(describe(data, index), factory.expectation(this, false));
+    }
+
+    @Override
+    public String toString() {
+        return expectation;
+    }
+
+    static final class IntRange extends PrimitiveArrayCheck<int[]> {
+
+        private final int min;
+        private final int max;
+
+        IntRange(int min, int max) {
+            super("every Item >= " + min + " and <= " + max);
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        int mismatch(int[] array) {
+            for(int from = 0; from < array.length; from += BLOCK) {
+                int to = Math.min(from + BLOCK, array.length);
+                int lo = Integer.MAX_VALUE;
+                int hi = Integer.MIN_VALUE;
+                for(int i = from; i < to; i++) {
+                    lo = Math.min(lo, array[i]);
+                    hi = Math.max(hi, array[i]);
+                }
+                if(lo < min || hi > max) for(int i = from; i < to; i++) {
+                    if(array[i] < min || array[i] > max) return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        String describe(int[] array, int index) {
+            return "Item [" + index + "] " + array[index];
+        }
+
+    }
+
+    static final class LongRange extends PrimitiveArrayCheck<long[]> {
+
+        private final long min;
+        private final long max;
+
+        LongRange(long min, long max) {
+            super("every Item >= " + min + " and <= " + max);
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        int mismatch(long[] array) {
+            for(int from = 0; from < array.length; from += BLOCK) {
+                int to = Math.min(from + BLOCK, array.length);
+                long lo = Long.MAX_VALUE;
+                long hi = Long.MIN_VALUE;
+                for(int i = from; i < to; i++) {
+                    lo = Math.min(lo, array[i]);
+                    hi = Math.max(hi, array[i]);
+                }
+                if(lo < min || hi > max) for(int i = from; i < to; i++) {
+                    if(array[i] < min || array[i] > max) return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        String describe(long[] array, int index) {
+            return "Item [" + index + "] " + array[index];
+        }
+
+    }
+
+    static final class DoubleRange extends PrimitiveArrayCheck<double[]> {
+
+        private final double min;
+        private final double max;
+
+        DoubleRange(double min, double max) {
+            super("every Item >= " + min + " and <= " + max);
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        int mismatch(double[] array) {
+            for(int from = 0; from < array.length; from += BLOCK) {
+                int to = Math.min(from + BLOCK, array.length);
+                double lo = Double.POSITIVE_INFINITY;
+                double hi = Double.NEGATIVE_INFINITY;
+                for(int i = from; i < to; i++) {
+                    lo = Math.min(lo, array[i]);
+                    hi = Math.max(hi, array[i]);
+                }
+                // Math.min/max propagate NaN, so the negated condition catches it.
+                if(!(lo >= min && hi <= max)) for(int i = from; i < to; i++) {
+                    if(!(array[i] >= min && array[i] <= max)) return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        String describe(double[] array, int index) {
+            return "Item [" + index + "] " + array[index];
+        }
+
+    }
+
+    static final class IntMonotonic extends PrimitiveArrayCheck<int[]> {
+
+        private final int order;
+        private final int threshold;
+
+        IntMonotonic(boolean descending, boolean strict) {
+            super(monotonic(descending, strict));
+            this.order = descending ? -1 : 1;
+            this.threshold = strict ? 1 : 0;
+        }
+
+        @Override
+        int mismatch(int[] array) {
+            for(int i = 1; i < array.length; i++) {
+                if(Integer.compare(array[i], array[i - 1]) * order < threshold) return i;
+            }
+            return -1;
+        }
+
+        @Override
+        String describe(int[] array, int index) {
+            return "Item [" + index + "] " + array[index] + " after " + array[index - 1];
+        }
+
+    }
+
+    static final class LongMonotonic extends PrimitiveArrayCheck<long[]> {
+
+        private final int order;
+        private final int threshold;
+
+        LongMonotonic(boolean descending, boolean strict) {
+            super(monotonic(descending, strict));
+            this.order = descending ? -1 : 1;
+            this.threshold = strict ? 1 : 0;
+        }
+
+        @Override
+        int mismatch(long[] array) {
+            for(int i = 1; i < array.length; i++) {
+                if(Long.compare(array[i], array[i - 1]) * order < threshold) return i;
+            }
+            return -1;
+        }
+
+        @Override
+        String describe(long[] array, int index) {
+            return "Item [" + index + "] " + array[index] + " after " + array[index - 1];
+        }
+
+    }
+
+    static final class DoubleMonotonic extends PrimitiveArrayCheck<double[]> {
+
+        private final double order;
+        private final boolean strict;
+
+        DoubleMonotonic(boolean descending, boolean strict) {
+            super(monotonic(descending, strict));
+            this.order = descending ? -1.0 : 1.0;
+            this.strict = strict;
+        }
+
+        @Override
+        int mismatch(double[] array) {
+            // Negation is exact, so descending order is tested as ascending order of negated values.
+            // Comparisons are negated, so that NaN is always reported as mismatch.
+            if(strict) for(int i = 1; i < array.length; i++) {
+                if(!(order * array[i - 1] < order * array[i])) return i;
+            } else for(int i = 1; i < array.length; i++) {
+                if(!(order * array[i - 1] <= order * array[i])) return i;
+            }
+            return -1;
+        }
+
+        @Override
+        String describe(double[] array, int index) {
+            return "Item [" + index + "] " + array[index] + " after " + array[index - 1];
+        }
+
+    }
+
+    static final class DoublesCloseTo extends PrimitiveArrayCheck<double[]> {
+
+        private final double[] expected;
+        private final double precision;
+
+        DoublesCloseTo(double[] expected, double precision) {
+            super(expected.length + " Items ±" + precision + " of expected values");
+            this.expected = expected;
+            this.precision = precision;
+        }
+
+        @Override
+        int mismatch(double[] array) {
+            int length = Math.min(array.length, expected.length);
+            for(int i = 0; i < length; i++) {
+                if(!(Math.abs(expected[i] - array[i]) < precision)) return i;
+            }
+            return array.length == expected.length ? -1 : length;
+        }
+
+        @Override
+        String describe(double[] array, int index) {
+            if(index >= array.length) return "Item [" + index + "] missing, expected " + expected[index];
+            if(index >= expected.length) return "Item [" + index + "] " + array[index] + " unexpected";
+            return "Item [" + index + "] " + array[index] + ", expected " + expected[index];
+        }
+
+    }
+
+    private static String monotonic(boolean descending, boolean strict) {
+        return (strict ? "strictly " : "") + (descending ? "descending" : "ascending") + " Items";
+    }
+
+}
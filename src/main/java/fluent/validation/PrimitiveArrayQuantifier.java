@@ -0,0 +1,173 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2021, Ondrej Fischer
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package fluent.validation;
+
+import fluent.validation.result.Aggregator;
+import fluent.validation.result.Result;
+import fluent.validation.result.ResultFactory;
+
+/**
+ * Quantifier (every / exists) over primitive array using primitive check. Elements are tested without boxing, and
+ * result is created only for the element, which decided the quantifier (first not matching one for every, first
+ * matching one for exists).
+ *
+ * @param <A> Type of the primitive array.
+ */
+abstract class PrimitiveArrayQuantifier<A> implements Check<A> {
+
+    private final Check<?> check;
+    final boolean exists;
+
+    PrimitiveArrayQuantifier(Check<?> check, boolean exists) {
+        this.check = check;
+        this.exists = exists;
+    }
+
+    /**
+     * Find the element deciding the quantifier.
+     *
+     * @param array Tested array.
+     * @return Index of the first element, for which the check returns the value of exists, or -1 if there is none.
+     */
+    abstract int decidingIndex(A array);
+
+    abstract Object get(A array, int index);
+
+    abstract Result evaluate(A array, int index, ResultFactory factory);
+
+    @Override
+    public Result evaluate(A data, ResultFactory factory) {
+        if(data == null) {
+            return BasicChecks.isNotNull().evaluate(null, factory);
+        }
+        int index = decidingIndex(data);
+        Aggregator itemResults = factory.aggregator(this);
+        if(index < 0) {
+            return itemResults.build(exists ? "No Item " + check + " found" : "All Items matched " + check, !exists);
+        }
+        itemResults.add(factory.actual(get(data, index), evaluate(data, index, factory)));
+        return exists
+                ? itemResults.build("Item [" + index + "] " + check + " found", true)
+                : itemResults.build("Item [" + index + "] " + get(data, index) + " doesn't match " + check, false);
+    }
+
+    @Override
+    public String toString() {
+        return (exists ? "exists" : "every") + " Item " + check;
+    }
+
+    static final class Ints extends PrimitiveArrayQuantifier<int[]> {
+
+        private final IntCheck check;
+
+        Ints(IntCheck check, boolean exists) {
+            super(check, exists);
+            this.check = check;
+        }
+
+        @Override
+        int decidingIndex(int[] array) {
+            for(int i = 0; i < array.length; i++) {
+                if(check.test(array[i]) == exists) return i;
+            }
+            return -1;
+        }
+
+        @Override
+        Object get(int[] array, int index) {
+            return array[index];
+        }
+
+        @Override
+        Result evaluate(int[] array, int index, ResultFactory factory) {
+            return check.evaluate(array[index], factory);
+        }
+
+    }
+
+    static final class Longs extends PrimitiveArrayQuantifier<long[]> {
+
+        private final LongCheck check;
+
+        Longs(LongCheck check, boolean exists) {
+            super(check, exists);
+            this.check = check;
+        }
+
+        @Override
+        int decidingIndex(long[] array) {
+            for(int i = 0; i < array.length; i++) {
+                if(check.test(array[i]) == exists) return i;
+            }
+            return -1;
+        }
+
+        @Override
+        Object get(long[] array, int index) {
+            return array[index];
+        }
+
+        @Override
+        Result evaluate(long[] array, int index, ResultFactory factory) {
+            return check.evaluate(array[index], factory);
+        }
+
+    }
+
+    static final class Doubles extends PrimitiveArrayQuantifier<double[]> {
+
+        private final DoubleCheck check;
+
+        Doubles(DoubleCheck check, boolean exists) {
+            super(check, exists);
+            this.check = check;
+        }
+
+        @Override
+        int decidingIndex(double[] array) {
+            for(int i = 0; i < array.length; i++) {
+                if(check.test(array[i]) == exists) return i;
+            }
+            return -1;
+        }
+
+        @Override
+        Object get(double[] array, int index) {
+            return array[index];
+        }
+
+        @Override
+        Result evaluate(double[] array, int index, ResultFactory factory) {
+            return check.evaluate(array[index], factory);
+        }
+
+    }
+
+}
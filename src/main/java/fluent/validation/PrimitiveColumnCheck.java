@@ -0,0 +1,110 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2021, Ondrej Fischer
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package fluent.validation;
+
+import fluent.validation.result.Result;
+import fluent.validation.result.ResultFactory;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Check of a primitive column value. The value is read and tested without boxing, and it's boxed for the result
+ * only if the check fails (or the column is SQL NULL).
+ */
+final class PrimitiveColumnCheck implements Check<ResultSet> {
+
+    private final ColumnIndex column;
+    private final Check<?> check;
+    private final Reader reader;
+
+    PrimitiveColumnCheck(ColumnIndex column, Check<?> check, Reader reader) {
+        this.column = column;
+        this.check = check;
+        this.reader = reader;
+    }
+
+    @Override
+    public Result evaluate(ResultSet data, ResultFactory factory) {
+        Result result;
+        try {
+            result = reader.evaluate(data, column.in(data), factory);
+        } catch (UncheckedInterruptedException interrupted) {
+            throw interrupted;
+        } catch (Exception | Error unchecked) {
+            result = factory.error(unchecked);
+        }
+        return factory.named(column, result, result.passed());
+    }
+
+    @Override
+    public String toString() {
+        return column + " " + check;
+    }
+
+    static Reader intReader(IntCheck check) {
+        return (resultSet, index, factory) -> {
+            int value = resultSet.getInt(index);
+            if(resultSet.wasNull()) {
+                return factory.actual(null, check.evaluate((Integer) null, factory));
+            }
+            Result result = check.evaluate(value, factory);
+            return result.passed() ? result : factory.actual(value, result);
+        };
+    }
+
+    static Reader longReader(LongCheck check) {
+        return (resultSet, index, factory) -> {
+            long value = resultSet.getLong(index);
+            if(resultSet.wasNull()) {
+                return factory.actual(null, check.evaluate((Long) null, factory));
+            }
+            Result result = check.evaluate(value, factory);
+            return result.passed() ? result : factory.actual(value, result);
+        };
+    }
+
+    static Reader doubleReader(DoubleCheck check) {
+        return (resultSet, index, factory) -> {
+            double value = resultSet.getDouble(index);
+            if(resultSet.wasNull()) {
+                return factory.actual(null, check.evaluate((Double) null, factory));
+            }
+            Result result = check.evaluate(value, factory);
+            return result.passed() ? result : factory.actual(value, result);
+        };
+    }
+
+    @FunctionalInterface
+    interface Reader {
+        Result evaluate(ResultSet resultSet, int index, ResultFactory factory) throws SQLException;
+    }
+
+}
@@ -33,7 +33,7 @@ import fluent.validation.result.Aggregator;
 import fluent.validation.result.Result;
 import fluent.validation.result.ResultFactory;
 
-final class Quantifier<D> implements Check<Iterable<D>> {
+final class Quantifier<D> implements SequenceCheck<D> {
 
     private final String elementName;
     private final Type type;
@@ -46,15 +46,33 @@ final class Quantifier<D> implements Check<Iterable<D>> {
     }
 
     @Override
-    public Result evaluate(Iterable<D> data, ResultFactory factory) {
-        Aggregator itemResults = factory.aggregator(this);
+    public Evaluation<D> evaluation(ResultFactory factory) {
         boolean end = type == Type.exists;
-        for(D item : data) {
-            if(itemResults.add(check.evaluate(item, factory)).passed() == end) {
-                return end ? itemResults.build(elementName + " " + check + " found", true) : itemResults.build(item + " doesn't match " + check, false);
+        return new Evaluation<D>() {
+            private final Aggregator itemResults = factory.aggregator(Quantifier.this);
+            private Result result;
+
+            @Override
+            public boolean feed(D item) {
+                if(result == null && itemResults.add(check.evaluate(item, factory)).passed() == end) {
+                    result = end ? itemResults.build(elementName + " " + check + " found", true) : itemResults.build(item + " doesn't match " + check, false);
+                }
+                return result != null;
+            }
+
+            @Override
+            public boolean decided() {
+                return result != null;
+            }
+
+            @Override
+            public Result result() {
+                if(result == null) {
+                    result = end ? itemResults.build("No " + elementName + " " + check + " found", false) : itemResults.build("All " + elementName + "s matched " + check, true);
+                }
+                return result;
             }
-        }
-        return end ? itemResults.build("No " + elementName + " " + check + " found", false) : itemResults.build("All " + elementName + "s matched " + check, true);
+        };
     }
 
     @Override
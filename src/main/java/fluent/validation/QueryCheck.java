@@ -0,0 +1,141 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2021, Ondrej Fischer
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package fluent.validation;
+
+import fluent.validation.result.Aggregator;
+import fluent.validation.result.Result;
+import fluent.validation.result.ResultFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+
+/**
+ * Check of a query result, applicable on a database connection. The check prepares the statement, executes it,
+ * applies the result set check and closes the statement.
+ *
+ * By default the result set is forward only and read only, and driver's default fetch size is used. Setting a fetch
+ * size allows drivers to stream the records using a cursor instead of buffering whole result before the first check
+ * is evaluated (e.g. PostgreSQL with auto-commit disabled, or MySQL with useCursorFetch=true).
+ *
+ * If the result set check is decided before all records are read (e.g. resultSetStartsWith), the statement is
+ * cancelled, so the database doesn't need to produce / transfer the rest of the result. The result set is considered
+ * read, when its next() returned false (isAfterLast() is optional for forward only result sets). Failure of the
+ * cancellation doesn't change the result of the check, but it's attached to the result, unless the driver doesn't
+ * support cancellation.
+ */
+public final class QueryCheck implements Check<Connection> {
+
+    private final String sql;
+    private final Object[] parameters;
+    private final int fetchSize;
+    private final int type;
+    private final int concurrency;
+    private final Check<? super ResultSet> check;
+
+    QueryCheck(String sql, Object[] parameters, int fetchSize, int type, int concurrency, Check<? super ResultSet> check) {
+        this.sql = sql;
+        this.parameters = parameters;
+        this.fetchSize = fetchSize;
+        this.type = type;
+        this.concurrency = concurrency;
+        this.check = check;
+    }
+
+    QueryCheck(String sql, Check<? super ResultSet> check) {
+        this(sql, new Object[0], 0, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, check);
+    }
+
+    public QueryCheck withParameters(Object... parameters) {
+        return new QueryCheck(sql, parameters.clone(), fetchSize, type, concurrency, check);
+    }
+
+    public QueryCheck withFetchSize(int fetchSize) {
+        return new QueryCheck(sql, parameters, fetchSize, type, concurrency, check);
+    }
+
+    public QueryCheck withResultSetType(int type, int concurrency) {
+        return new QueryCheck(sql, parameters, fetchSize, type, concurrency, check);
+    }
+
+    @Override
+    public Result evaluate(Connection data, ResultFactory factory) {
+        if(data == null) {
+            return factory.expectation(this, false);
+        }
+        Result result;
+        try(PreparedStatement statement = data.prepareStatement(sql, type, concurrency)) {
+            if(fetchSize != 0) {
+                statement.setFetchSize(fetchSize);
+            }
+            for(int i = 0; i < parameters.length; i++) {
+                statement.setObject(i + 1, parameters[i]);
+            }
+            try(ResultSet resultSet = statement.executeQuery()) {
+                TrackingResultSet tracked = new TrackingResultSet(resultSet);
+                result = check.evaluate(tracked, factory);
+                if(!tracked.exhausted()) {
+                    result = cancel(statement, result, factory);
+                }
+            }
+        } catch (UncheckedInterruptedException interrupted) {
+            throw interrupted;
+        } catch (SQLException | RuntimeException | Error unchecked) {
+            result = factory.error(unchecked);
+        }
+        return factory.named("query " + sql, result, result.passed());
+    }
+
+    /*
+     * Cancellation only saves resources of the database, so its failure doesn't change the already known result.
+     * Drivers not supporting cancellation are ignored, other failures are attached to the result as soft errors.
+     */
+    private Result cancel(PreparedStatement statement, Result result, ResultFactory factory) {
+        try {
+            statement.cancel();
+            return result;
+        } catch (SQLFeatureNotSupportedException unsupported) {
+            return result;
+        } catch (SQLException | RuntimeException failure) {
+            Aggregator resultBuilder = factory.aggregator(check);
+            resultBuilder.add(result);
+            resultBuilder.add(factory.soft(factory.named("cancel", factory.error(failure), false)));
+            return resultBuilder.build("Query cancellation failed", result.passed());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "query " + sql + " " + check;
+    }
+
+}
@@ -0,0 +1,114 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2021, Ondrej Fischer
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package fluent.validation;
+
+import fluent.validation.result.Result;
+import fluent.validation.result.TableAggregator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Table aggregator of item results in incremental evaluations, which retains columns (items with their results) of
+ * the most recent items only, the same way as RecentResults. Retained columns are passed to the table aggregator
+ * of the result factory, when the result is built.
+ *
+ * @param <D> Type of the items.
+ */
+final class RecentColumns<D> implements TableAggregator<D> {
+
+    private final TableAggregator<D> table;
+    private final Object[] items;
+    private final List<List<Cell>> cells = new ArrayList<>();
+    private int count;
+
+    RecentColumns(TableAggregator<D> table, int size) {
+        this.table = table;
+        this.items = new Object[size];
+        for(int i = 0; i < size; i++) {
+            cells.add(new ArrayList<>());
+        }
+    }
+
+    @Override
+    public int column(Object item) {
+        int slot = count % items.length;
+        items[slot] = item;
+        cells.get(slot).clear();
+        return count++;
+    }
+
+    @Override
+    public Result cell(int row, int column, Result result) {
+        if(column >= first()) {
+            cells.get(column % items.length).add(new Cell(row, result));
+        }
+        return result;
+    }
+
+    @Override
+    public Result build(String description, int column, boolean value) {
+        int first = replay();
+        return column >= first ? table.build(description, column - first, value) : table.build(description, value);
+    }
+
+    @Override
+    public Result build(String description, boolean value) {
+        replay();
+        return table.build(description, value);
+    }
+
+    private int first() {
+        return Math.max(0, count - items.length);
+    }
+
+    private int replay() {
+        int first = first();
+        for(int i = first; i < count; i++) {
+            int column = table.column(items[i % items.length]);
+            for(Cell cell : cells.get(i % items.length)) {
+                table.cell(cell.row, column, cell.result);
+            }
+        }
+        count = 0;
+        return first;
+    }
+
+    private static final class Cell {
+        private final int row;
+        private final Result result;
+
+        private Cell(int row, Result result) {
+            this.row = row;
+            this.result = result;
+        }
+    }
+
+}
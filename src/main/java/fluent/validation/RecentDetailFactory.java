@@ -0,0 +1,102 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2021, Ondrej Fischer
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package fluent.validation;
+
+import fluent.validation.result.Aggregator;
+import fluent.validation.result.Result;
+import fluent.validation.result.ResultFactory;
+import fluent.validation.result.TableAggregator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Result factory of incremental evaluations of long sequences, whose aggregators retain results of the most recent
+ * items only (see RecentResults and RecentColumns). Other results are created by the original factory.
+ */
+final class RecentDetailFactory implements ResultFactory {
+
+    private final ResultFactory factory;
+    private final int size;
+
+    RecentDetailFactory(ResultFactory factory, int size) {
+        if(size < 1) {
+            throw new IllegalArgumentException("Number of retained item results must be positive: " + size);
+        }
+        this.factory = factory;
+        this.size = size;
+    }
+
+    @Override
+    public Result actual(Object actualValue, Result result) {
+        return factory.actual(actualValue, result);
+    }
+
+    @Override
+    public Result expectation(Object expectation, boolean value) {
+        return factory.expectation(expectation, value);
+    }
+
+    @Override
+    public Result named(Object name, Result result, boolean value) {
+        return factory.named(name, result, value);
+    }
+
+    @Override
+    public Result soft(Result result) {
+        return factory.soft(result);
+    }
+
+    @Override
+    public Result aggregation(Object prefix, String glue, List<Result> items, boolean value) {
+        return factory.aggregation(prefix, glue, items, value);
+    }
+
+    @Override
+    public <D> TableAggregator<D> table(Object prefix, ArrayList<Check<? super D>> checks) {
+        return new RecentColumns<>(factory.table(prefix, checks), size);
+    }
+
+    @Override
+    public Result error(Throwable throwable) {
+        return factory.error(throwable);
+    }
+
+    @Override
+    public Result invert(Result result) {
+        return factory.invert(result);
+    }
+
+    @Override
+    public Aggregator aggregator(Object prefix, String glue) {
+        return new RecentResults(factory.aggregator(prefix, glue), size);
+    }
+
+}
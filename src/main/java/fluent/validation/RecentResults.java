@@ -0,0 +1,66 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2021, Ondrej Fischer
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package fluent.validation;
+
+import fluent.validation.result.Aggregator;
+import fluent.validation.result.Result;
+
+/**
+ * Aggregator of item results in incremental evaluations, which retains results of the most recent items only (the
+ * deciding item is always the last one), so memory used by the evaluation doesn't grow with length of the sequence.
+ * Retained results are passed to the aggregator of the result factory, when the result is built.
+ */
+final class RecentResults implements Aggregator {
+
+    private final Aggregator aggregator;
+    private final Result[] recent;
+    private long count;
+
+    RecentResults(Aggregator aggregator, int size) {
+        this.aggregator = aggregator;
+        this.recent = new Result[size];
+    }
+
+    @Override
+    public Result add(Result itemResult) {
+        recent[(int) (count++ % recent.length)] = itemResult;
+        return itemResult;
+    }
+
+    @Override
+    public Result build(Object actualValueDescription, boolean result) {
+        for(long i = Math.max(0, count - recent.length); i < count; i++) {
+            aggregator.add(recent[(int) (i % recent.length)]);
+        }
+        count = 0;
+        return aggregator.build(actualValueDescription, result);
+    }
+
+}
@@ -0,0 +1,157 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2021, Ondrej Fischer
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package fluent.validation;
+
+import fluent.validation.result.Aggregator;
+import fluent.validation.result.Result;
+import fluent.validation.result.ResultFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Check, that a string (or other character sequence) matches (contains a match of) a regular expression, with optional checks of captured groups.
+ * The match is found only once, and all the group checks are applied on the captured values.
+ *
+ * Matcher is reused within every thread (reset with new input), so the evaluation doesn't allocate a new matcher.
+ */
+public final class RegexCheckBuilder<D extends CharSequence> implements Check<D> {
+
+    private final Pattern pattern;
+    private final ThreadLocal<Matcher> matcher;
+    private final List<Group> groups;
+
+    private RegexCheckBuilder(Pattern pattern, ThreadLocal<Matcher> matcher, List<Group> groups) {
+        this.pattern = pattern;
+        this.matcher = matcher;
+        this.groups = groups;
+    }
+
+    public RegexCheckBuilder(Pattern pattern) {
+        this(pattern, ThreadLocal.withInitial(() -> pattern.matcher("")), new ArrayList<>());
+    }
+
+    /**
+     * Add check of a named group.
+     *
+     * @param name Name of the group.
+     * @param check Check of the captured value (null if the group didn't participate in the match).
+     * @return New builder with all the previous group checks, and the new one.
+     */
+    public RegexCheckBuilder<D> group(String name, Check<? super String> check) {
+        return with(new Group(name, check));
+    }
+
+    /**
+     * Add check of a group identified by its number.
+     *
+     * @param index Number of the group.
+     * @param check Check of the captured value (null if the group didn't participate in the match).
+     * @return New builder with all the previous group checks, and the new one.
+     */
+    public RegexCheckBuilder<D> group(int index, Check<? super String> check) {
+        if(index < 0 || index > pattern.matcher("").groupCount()) {
+            throw new IllegalArgumentException("No group " + index + " in /" + pattern + "/");
+        }
+        return with(new Group(index, check));
+    }
+
+    public RegexCheckBuilder<D> group(String name, String expectedValue) {
+        return group(name, BasicChecks.equalTo(expectedValue));
+    }
+
+    private RegexCheckBuilder<D> with(Group group) {
+        List<Group> groups = new ArrayList<>(this.groups);
+        groups.add(group);
+        return new RegexCheckBuilder<>(pattern, matcher, groups);
+    }
+
+    @Override
+    public Result evaluate(D data, ResultFactory factory) {
+        if(data == null) {
+            return BasicChecks.isNotNull().evaluate(null, factory);
+        }
+        Matcher current = matcher.get();
+        String[] values = new String[groups.size()];
+        try {
+            if(!current.reset(data).find()) {
+                return factory.expectation(this, false);
+            }
+            for(int i = 0; i < values.length; i++) {
+                values[i] = groups.get(i).value(current);
+            }
+        } catch (IllegalArgumentException e) {
+            return factory.error(e);
+        } finally {
+            // Release reference to the data, so that the thread local matcher doesn't prevent it from being collected.
+            current.reset("");
+        }
+        if(values.length == 0) {
+            return factory.expectation(this, true);
+        }
+        Aggregator resultBuilder = factory.aggregator(this);
+        boolean passed = true;
+        for(int i = 0; i < values.length; i++) {
+            Group group = groups.get(i);
+            Result result = group.check.evaluate(values[i], factory);
+            passed &= result.passed();
+            resultBuilder.add(factory.named("group " + group.key, factory.actual(values[i], result), result.passed()));
+        }
+        return resultBuilder.build(data, passed);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("matches /").append(pattern).append('/');
+        for(Group group : groups) {
+            builder.append(" with group ").append(group.key).append(' ').append(group.check);
+        }
+        return builder.toString();
+    }
+
+    private static final class Group {
+
+        private final Object key;
+        private final Check<? super String> check;
+
+        private Group(Object key, Check<? super String> check) {
+            this.key = key;
+            this.check = check;
+        }
+
+        private String value(Matcher matcher) {
+            return key instanceof Integer ? matcher.group((Integer) key) : matcher.group((String) key);
+        }
+
+    }
+
+}
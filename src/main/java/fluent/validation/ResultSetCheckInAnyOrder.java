@@ -45,11 +45,19 @@ final class ResultSetCheckInAnyOrder implements Check<ResultSet> {
     private final ArrayList<Check<? super ResultSet>> checks;
     private final boolean full;
     private final boolean exact;
+    private final String[] snapshotColumns;
+    private final int snapshotCapacity;
 
-    ResultSetCheckInAnyOrder(Collection<Check<? super ResultSet>> checks, boolean full, boolean exact) {
+    ResultSetCheckInAnyOrder(Collection<Check<? super ResultSet>> checks, boolean full, boolean exact, String[] snapshotColumns, int snapshotCapacity) {
         this.checks = new ArrayList<>(checks);
         this.full = full;
         this.exact = exact;
+        this.snapshotColumns = snapshotColumns;
+        this.snapshotCapacity = snapshotCapacity;
+    }
+
+    ResultSetCheckInAnyOrder(Collection<Check<? super ResultSet>> checks, boolean full, boolean exact) {
+        this(checks, full, exact, null, 0);
     }
 
     private boolean matchesAnyAndRemoves(ResultSet item, List<Integer> rows, int column, TableAggregator<ResultSet> table, ResultFactory factory) {
@@ -73,14 +81,23 @@ final class ResultSetCheckInAnyOrder implements Check<ResultSet> {
         }
         TableAggregator<ResultSet> resultBuilder = factory.table(this, checks);
         List<Integer> rows = range(0, checks.size()).boxed().collect(toCollection(LinkedList::new));
+        RowSnapshots snapshots = snapshotColumns == null ? null : new RowSnapshots(snapshotColumns, snapshotCapacity);
         try {
             while (data.next()) {
-                int column = resultBuilder.column("record " + data.getRow());
+                int column = resultBuilder.column(snapshots == null ? "record " + data.getRow() : snapshots.capture(data));
                 if(rows.isEmpty()) {
+                    if(full && snapshots != null) {
+                        snapshots.commit();
+                    }
                     return full ? resultBuilder.build("Extra items found", false) : resultBuilder.build("Prefix matched", true);
                 }
-                if (!matchesAnyAndRemoves(data, rows, column, resultBuilder, factory) && exact) {
-                    return resultBuilder.build("Extra items found", false);
+                if (!matchesAnyAndRemoves(data, rows, column, resultBuilder, factory)) {
+                    if(snapshots != null) {
+                        snapshots.commit();
+                    }
+                    if(exact) {
+                        return resultBuilder.build("Extra items found", false);
+                    }
                 }
             }
         } catch (SQLException e) {
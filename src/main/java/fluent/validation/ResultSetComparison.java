@@ -0,0 +1,182 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2021, Ondrej Fischer
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package fluent.validation;
+
+import fluent.validation.result.Aggregator;
+import fluent.validation.result.Result;
+import fluent.validation.result.ResultFactory;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Objects;
+
+/**
+ * Check, comparing an actual result set with a reference result set row by row, while both are being read.
+ * Columns are compared by index, so both result sets need to have the same column order. Numeric values are compared
+ * by value regardless of their type (e.g. Integer, Long or BigDecimal returned by different drivers).
+ * Only the first K differences are reported, and the evaluation stops then. Memory used by the check doesn't
+ * depend on number of rows.
+ */
+final class ResultSetComparison implements Check<ResultSet> {
+
+    private final ResultSet expected;
+    private final int maxDifferences;
+
+    ResultSetComparison(ResultSet expected, int maxDifferences) {
+        if(maxDifferences < 1) {
+            throw new IllegalArgumentException("Number of reported differences must be positive: " + maxDifferences);
+        }
+        this.expected = expected;
+        this.maxDifferences = maxDifferences;
+    }
+
+    @Override
+    public Result evaluate(ResultSet data, ResultFactory factory) {
+        if(data == null) {
+            return factory.expectation(this, false);
+        }
+        Aggregator resultBuilder = factory.aggregator(this);
+        try {
+            ResultSetMetaData metaData = data.getMetaData();
+            int columns = metaData.getColumnCount();
+            int expectedColumns = expected.getMetaData().getColumnCount();
+            if(columns != expectedColumns) {
+                return resultBuilder.build("Column count " + columns + " differs from expected " + expectedColumns, false);
+            }
+            String[] labels = new String[columns + 1];
+            for(int i = 1; i <= columns; i++) {
+                labels[i] = metaData.getColumnLabel(i);
+            }
+            int differences = 0;
+            long row = 0;
+            while(true) {
+                boolean actualHasNext = data.next();
+                boolean expectedHasNext = expected.next();
+                row++;
+                if(actualHasNext != expectedHasNext) {
+                    resultBuilder.add(factory.named("record " + row, factory.expectation(actualHasNext ? "no more records" : "more records", false), false));
+                    return resultBuilder.build(actualHasNext ? "Extra record found" : "Missing record", false);
+                }
+                if(!actualHasNext) {
+                    break;
+                }
+                for(int i = 1; i <= columns; i++) {
+                    Object actualValue = data.getObject(i);
+                    Object expectedValue = expected.getObject(i);
+                    if(!same(actualValue, expectedValue)) {
+                        resultBuilder.add(factory.named("record " + row + " " + labels[i], factory.actual(render(actualValue), factory.expectation("<" + render(expectedValue) + ">", false)), false));
+                        if(++differences >= maxDifferences) {
+                            return resultBuilder.build("First " + differences + " differences found", false);
+                        }
+                    }
+                }
+            }
+            return differences == 0
+                    ? resultBuilder.build("" + (row - 1) + " records matched", true)
+                    : resultBuilder.build("" + differences + " differences found", false);
+        } catch (SQLException e) {
+            return factory.error(e);
+        }
+    }
+
+    /**
+     * Comparison of column values, which compares numbers by value regardless of their type and scale, and compares
+     * content of binary values.
+     */
+    static boolean same(Object actual, Object expected) {
+        return Objects.equals(actual, expected) || Objects.deepEquals(normalize(actual), normalize(expected));
+    }
+
+    /**
+     * Normalize column value, so that equality of normalized values is consistent with the comparison. Numbers are
+     * converted to BigDecimal without trailing zeros, and binary values are wrapped by ByteBuffer.
+     */
+    static Object normalize(Object value) {
+        if(value instanceof Number) {
+            BigDecimal decimal = decimal((Number) value);
+            if(decimal != null) {
+                return decimal.signum() == 0 ? BigDecimal.ZERO : decimal.stripTrailingZeros();
+            }
+        }
+        if(value instanceof byte[]) {
+            return ByteBuffer.wrap((byte[]) value);
+        }
+        return value;
+    }
+
+    private static BigDecimal decimal(Number value) {
+        if(value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        }
+        if(value instanceof BigInteger) {
+            return new BigDecimal((BigInteger) value);
+        }
+        if(value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return BigDecimal.valueOf(value.longValue());
+        }
+        if((value instanceof Double || value instanceof Float) && !Double.isNaN(value.doubleValue()) && !Double.isInfinite(value.doubleValue())) {
+            // String representation, so that e.g. Float 0.1 equals to BigDecimal 0.1.
+            return new BigDecimal(value.toString());
+        }
+        return null;
+    }
+
+    /**
+     * Render value for the result. Binary values are rendered as hexadecimal content, and decimal numbers without
+     * exponent (as normalized key values may have it).
+     */
+    static Object render(Object value) {
+        if(value instanceof BigDecimal) {
+            return ((BigDecimal) value).toPlainString();
+        }
+        if(value instanceof byte[]) {
+            return render(ByteBuffer.wrap((byte[]) value));
+        }
+        if(value instanceof ByteBuffer) {
+            ByteBuffer buffer = (ByteBuffer) value;
+            StringBuilder builder = new StringBuilder("0x");
+            for(int i = buffer.position(); i < buffer.limit(); i++) {
+                builder.append(Character.forDigit((buffer.get(i) >> 4) & 0xF, 16)).append(Character.forDigit(buffer.get(i) & 0xF, 16));
+            }
+            return builder.toString();
+        }
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return "Records equal to reference result set";
+    }
+
+}
@@ -0,0 +1,184 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2021, Ondrej Fischer
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package fluent.validation;
+
+import fluent.validation.result.Aggregator;
+import fluent.validation.result.Result;
+import fluent.validation.result.ResultFactory;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+import static fluent.validation.ResultSetComparison.normalize;
+import static fluent.validation.ResultSetComparison.render;
+import static fluent.validation.ResultSetComparison.same;
+
+/**
+ * Check, comparing an actual result set with a reference result set regardless of order of the records.
+ * Records are paired using values of key columns: the reference result set is hashed by the key, and the actual
+ * result set is then streamed and looked up, so the comparison takes linear time instead of trying every check
+ * on every record.
+ * Memory consumption is proportional to the size of the reference result set.
+ */
+final class ResultSetKeyComparison implements Check<ResultSet> {
+
+    private final ResultSet expected;
+    private final String[] keyColumns;
+    private final int maxDifferences;
+
+    ResultSetKeyComparison(ResultSet expected, String[] keyColumns, int maxDifferences) {
+        if(keyColumns.length == 0) {
+            throw new IllegalArgumentException("At least one key column must be provided.");
+        }
+        if(maxDifferences < 1) {
+            throw new IllegalArgumentException("Number of reported differences must be positive: " + maxDifferences);
+        }
+        this.expected = expected;
+        this.keyColumns = keyColumns.clone();
+        this.maxDifferences = maxDifferences;
+    }
+
+    @Override
+    public Result evaluate(ResultSet data, ResultFactory factory) {
+        if(data == null) {
+            return factory.expectation(this, false);
+        }
+        Aggregator resultBuilder = factory.aggregator(this);
+        try {
+            ResultSetMetaData metaData = data.getMetaData();
+            int columns = metaData.getColumnCount();
+            int expectedColumns = expected.getMetaData().getColumnCount();
+            if(columns != expectedColumns) {
+                return resultBuilder.build("Column count " + columns + " differs from expected " + expectedColumns, false);
+            }
+            Map<Key, Deque<Object[]>> remaining = new HashMap<>();
+            int[] expectedKeys = indexes(expected);
+            while(expected.next()) {
+                Object[] row = row(expected, columns);
+                remaining.computeIfAbsent(new Key(row, expectedKeys), key -> new ArrayDeque<>(1)).add(row);
+            }
+            int[] actualKeys = indexes(data);
+            int differences = 0;
+            while(data.next()) {
+                Object[] row = row(data, columns);
+                Key key = new Key(row, actualKeys);
+                Deque<Object[]> candidates = remaining.get(key);
+                if(candidates == null) {
+                    resultBuilder.add(factory.named("record " + key, factory.expectation("no unexpected record", false), false));
+                    differences++;
+                } else {
+                    Object[] expectedRow = candidates.poll();
+                    if(candidates.isEmpty()) {
+                        remaining.remove(key);
+                    }
+                    for(int i = 1; i <= columns && differences < maxDifferences; i++) {
+                        if(!same(row[i], expectedRow[i])) {
+                            resultBuilder.add(factory.named("record " + key + " " + metaData.getColumnLabel(i), factory.actual(render(row[i]), factory.expectation("<" + render(expectedRow[i]) + ">", false)), false));
+                            differences++;
+                        }
+                    }
+                }
+                if(differences >= maxDifferences) {
+                    return resultBuilder.build("First " + differences + " differences found", false);
+                }
+            }
+            for(Key key : remaining.keySet()) {
+                resultBuilder.add(factory.named("record " + key, factory.expectation("missing record", false), false));
+                if(++differences >= maxDifferences) {
+                    return resultBuilder.build("First " + differences + " differences found", false);
+                }
+            }
+            return differences == 0
+                    ? resultBuilder.build("All records matched", true)
+                    : resultBuilder.build("" + differences + " differences found", false);
+        } catch (SQLException e) {
+            return factory.error(e);
+        }
+    }
+
+    private int[] indexes(ResultSet resultSet) throws SQLException {
+        int[] indexes = new int[keyColumns.length];
+        for(int i = 0; i < keyColumns.length; i++) {
+            indexes[i] = resultSet.findColumn(keyColumns[i]);
+        }
+        return indexes;
+    }
+
+    private static Object[] row(ResultSet resultSet, int columns) throws SQLException {
+        Object[] row = new Object[columns + 1];
+        for(int i = 1; i <= columns; i++) {
+            row[i] = resultSet.getObject(i);
+        }
+        return row;
+    }
+
+    @Override
+    public String toString() {
+        return "Records equal in any order to reference result set by key " + Arrays.toString(keyColumns);
+    }
+
+    /**
+     * Key of a record. Values are normalized, so that the key equality is consistent with the value comparison.
+     */
+    private static final class Key {
+        private final Object[] values;
+        private final int hash;
+
+        private Key(Object[] row, int[] indexes) {
+            values = new Object[indexes.length];
+            for(int i = 0; i < indexes.length; i++) {
+                values[i] = normalize(row[indexes[i]]);
+            }
+            hash = Arrays.hashCode(values);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o || o instanceof Key && Arrays.equals(values, ((Key) o).values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString(Arrays.stream(values).map(ResultSetComparison::render).toArray());
+        }
+    }
+
+}
@@ -0,0 +1,178 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2021, Ondrej Fischer
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package fluent.validation;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+
+/**
+ * Snapshots of selected columns of result set records, so that records can be shown in the result, although the
+ * result set cursor can't be revisited.
+ *
+ * Values are copied into a columnar buffer (primitive arrays for integral and floating point columns), which is
+ * organized as a ring of bounded capacity. Only snapshots of records, which failed, are committed to the ring,
+ * snapshot of a passed record is overwritten by the next one. Once a snapshot is overwritten in the ring, the record
+ * is represented only by its number.
+ */
+final class RowSnapshots {
+
+    private static final byte OBJECT = 0;
+    private static final byte INTEGRAL = 1;
+    private static final byte FLOATING = 2;
+
+    private final String[] labels;
+    private final int capacity;
+    private int[] indexes;
+    private byte[] kinds;
+    private long[][] integrals;
+    private double[][] floatings;
+    private Object[][] objects;
+    private boolean[][] nulls;
+    private final long[] owners;
+    private long captured;
+    private long committed;
+
+    RowSnapshots(String[] labels, int capacity) {
+        if(capacity < 1) {
+            throw new IllegalArgumentException("Number of retained records must be positive: " + capacity);
+        }
+        this.labels = labels;
+        this.capacity = capacity;
+        this.owners = new long[capacity];
+        Arrays.fill(owners, -1);
+    }
+
+    private void initialize(ResultSet resultSet) throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        indexes = new int[labels.length];
+        kinds = new byte[labels.length];
+        integrals = new long[labels.length][];
+        floatings = new double[labels.length][];
+        objects = new Object[labels.length][];
+        nulls = new boolean[labels.length][capacity];
+        for(int i = 0; i < labels.length; i++) {
+            indexes[i] = resultSet.findColumn(labels[i]);
+            kinds[i] = kind(metaData.getColumnType(indexes[i]));
+            switch (kinds[i]) {
+                case INTEGRAL: integrals[i] = new long[capacity]; break;
+                case FLOATING: floatings[i] = new double[capacity]; break;
+                default: objects[i] = new Object[capacity];
+            }
+        }
+    }
+
+    private static byte kind(int type) {
+        switch (type) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                return INTEGRAL;
+            case Types.REAL:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return FLOATING;
+            default:
+                return OBJECT;
+        }
+    }
+
+    /**
+     * Copy the referenced columns of current record into the ring, without committing it.
+     *
+     * @param resultSet Result set positioned at the record.
+     * @return Representation of the record for the result.
+     */
+    Object capture(ResultSet resultSet) throws SQLException {
+        if(indexes == null) {
+            initialize(resultSet);
+        }
+        int slot = (int) (committed % capacity);
+        for(int i = 0; i < indexes.length; i++) {
+            switch (kinds[i]) {
+                case INTEGRAL: integrals[i][slot] = resultSet.getLong(indexes[i]); break;
+                case FLOATING: floatings[i][slot] = resultSet.getDouble(indexes[i]); break;
+                default: objects[i][slot] = resultSet.getObject(indexes[i]);
+            }
+            nulls[i][slot] = resultSet.wasNull();
+        }
+        return new Snapshot(resultSet.getRow(), slot, captured++);
+    }
+
+    /**
+     * Keep the last captured record in the ring.
+     */
+    void commit() {
+        owners[(int) (committed++ % capacity)] = captured - 1;
+    }
+
+    private void append(StringBuilder builder, int slot) {
+        builder.append(" {");
+        for(int i = 0; i < labels.length; i++) {
+            if(i > 0) {
+                builder.append(", ");
+            }
+            builder.append(labels[i]).append('=');
+            if(nulls[i][slot]) {
+                builder.append("null");
+            } else switch (kinds[i]) {
+                case INTEGRAL: builder.append(integrals[i][slot]); break;
+                case FLOATING: builder.append(floatings[i][slot]); break;
+                default: builder.append(objects[i][slot]);
+            }
+        }
+        builder.append('}');
+    }
+
+    private final class Snapshot {
+        private final int row;
+        private final int slot;
+        private final long sequence;
+
+        private Snapshot(int row, int slot, long sequence) {
+            this.row = row;
+            this.slot = slot;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder("record ").append(row);
+            if(owners[slot] == sequence) {
+                append(builder, slot);
+            }
+            return builder.toString();
+        }
+    }
+
+}
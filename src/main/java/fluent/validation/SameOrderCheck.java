@@ -42,7 +42,7 @@ import java.util.Iterator;
  *
  * @param <D> Type of the items in the collection.
  */
-final class SameOrderCheck<D> implements Check<Iterator<D>> {
+final class SameOrderCheck<D> implements SequenceCheck<D> {
 
     private final String elementName;
     private final Iterable<Check<? super D>> checks;
@@ -56,34 +56,47 @@ final class SameOrderCheck<D> implements Check<Iterator<D>> {
         this.exact = exact;
     }
 
-    private boolean match(Check<? super D> check, Iterator<D> d, Aggregator resultBuilder, ResultFactory factory) {
-        while (d.hasNext()) {
-            D item = d.next();
-            if(resultBuilder.add(check.evaluate(item, factory)).passed()) {
-                return true;
+    @Override
+    public Evaluation<D> evaluation(ResultFactory factory) {
+        return new Evaluation<D>() {
+            private final Aggregator resultBuilder = factory.aggregator(SameOrderCheck.this);
+            private final Iterator<Check<? super D>> remaining = checks.iterator();
+            private Check<? super D> check = remaining.hasNext() ? remaining.next() : null;
+            private Result result = check == null && !(full && exact) ? resultBuilder.build(elementName + "s matched checks", true) : null;
+
+            @Override
+            public boolean feed(D item) {
+                if(result != null) {
+                    return true;
+                }
+                if(check == null) {
+                    result = resultBuilder.build("Extra " + elementName + " " + item, false);
+                } else if(resultBuilder.add(check.evaluate(item, factory)).passed()) {
+                    check = remaining.hasNext() ? remaining.next() : null;
+                    if(check == null && !(full && exact)) {
+                        result = resultBuilder.build(elementName + "s matched checks", true);
+                    }
+                } else if(exact) {
+                    result = resultBuilder.build(check + " not matched by any " + elementName, false);
+                }
+                return result != null;
             }
-            if(exact) {
-                return false;
+
+            @Override
+            public boolean decided() {
+                return result != null;
             }
-        }
-        return false;
-    }
 
-    @Override
-    public Result evaluate(Iterator<D> data, ResultFactory factory) {
-        if(data == null) {
-            return factory.expectation(this, false);
-        }
-        Aggregator resultBuilder = factory.aggregator(this);
-        for(Check<? super D> check : checks) {
-            if(!match(check, data, resultBuilder, factory)) {
-                return resultBuilder.build(check + " not matched by any " + elementName, false);
+            @Override
+            public Result result() {
+                if(result == null) {
+                    result = check == null
+                            ? resultBuilder.build(elementName + "s matched checks", true)
+                            : resultBuilder.build(check + " not matched by any " + elementName, false);
+                }
+                return result;
             }
-        }
-        if(full && exact && data.hasNext()) {
-            return resultBuilder.build("Extra " + elementName + " " + data.next(), false);
-        }
-        return resultBuilder.build(elementName + "s matched checks", true);
+        };
     }
 
     @Override
@@ -0,0 +1,79 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2021, Ondrej Fischer
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package fluent.validation;
+
+import fluent.validation.result.Result;
+import fluent.validation.result.ResultFactory;
+
+import java.util.Iterator;
+
+/**
+ * Check of a sequence of items, which can be evaluated incrementally, item by item.
+ * Besides standard evaluation of an iterator, it allows to start an online evaluation, to which the items are pushed
+ * as they arrive.
+ *
+ * @param <D> Type of the items in the sequence.
+ */
+public interface SequenceCheck<D> extends Check<Iterator<D>> {
+
+    /**
+     * Start new incremental evaluation of this check.
+     *
+     * @param factory Result factory responsible for creating result tree.
+     * @return New evaluation, to which items of the sequence can be fed.
+     */
+    Evaluation<D> evaluation(ResultFactory factory);
+
+    /**
+     * Start new incremental evaluation of this check, which retains detail (results of individual items) only for
+     * the most recent items, including the deciding one, so memory used by the evaluation doesn't grow with length of
+     * the sequence (e.g. for a live stream of events).
+     *
+     * @param factory Result factory responsible for creating result tree.
+     * @param recentItems Number of the most recent items, whose results are retained.
+     * @return New evaluation, to which items of the sequence can be fed.
+     */
+    default Evaluation<D> evaluation(ResultFactory factory, int recentItems) {
+        return evaluation(new RecentDetailFactory(factory, recentItems));
+    }
+
+    @Override
+    default Result evaluate(Iterator<D> data, ResultFactory factory) {
+        if(data == null) {
+            return factory.expectation(this, false);
+        }
+        Evaluation<D> evaluation = evaluation(factory);
+        while (!evaluation.decided() && data.hasNext()) {
+            evaluation.feed(data.next());
+        }
+        return evaluation.result();
+    }
+
+}
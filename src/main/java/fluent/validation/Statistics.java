@@ -0,0 +1,275 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2021, Ondrej Fischer
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package fluent.validation;
+
+import java.util.Iterator;
+import java.util.function.DoubleConsumer;
+
+import static java.lang.Double.doubleToRawLongBits;
+import static java.lang.Double.longBitsToDouble;
+
+/**
+ * Single pass accumulator of statistics of a sequence of numbers, using constant memory regardless of the number of
+ * accepted values. It's used by StatisticsChecks, but it can also be fed directly.
+ *
+ * Mean and variance are computed using Welford's algorithm. Quantiles and fractions of values within a range are
+ * estimated from a histogram with logarithmic buckets (like HDR histogram), whose bounds are derived directly from
+ * the binary representation of the double value: Buckets split every binary order of magnitude into 128 parts, so
+ * the estimated values have relative error below 1%.
+ *
+ * Partial statistics can be combined (e.g. statistics of parts of the data computed in parallel), so it can be used
+ * as a mutable reduction: doubleStream.collect(Statistics::new, Statistics::accept, Statistics::combine).
+ *
+ * NaN values are counted, make mean, variance, minimum and maximum NaN, and are ordered above all other values
+ * in quantiles.
+ */
+public final class Statistics implements DoubleConsumer {
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SHIFT = 52 - SUB_BUCKET_BITS;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int ROWS = 1 << 11;
+
+    private long count;
+    private double mean;
+    private double m2;
+    // Minimum and maximum of values other than NaN, used to clamp estimated quantiles.
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+    private long nanCount;
+    private final long[][] positive = new long[ROWS][];
+    private final long[][] negative = new long[ROWS][];
+
+    public static Statistics of(Iterator<? extends Number> iterator) {
+        Statistics statistics = new Statistics();
+        while(iterator.hasNext()) {
+            statistics.accept(iterator.next().doubleValue());
+        }
+        return statistics;
+    }
+
+    public static Statistics of(int[] values) {
+        Statistics statistics = new Statistics();
+        for(int value : values) statistics.accept(value);
+        return statistics;
+    }
+
+    public static Statistics of(long[] values) {
+        Statistics statistics = new Statistics();
+        for(long value : values) statistics.accept(value);
+        return statistics;
+    }
+
+    public static Statistics of(double[] values) {
+        Statistics statistics = new Statistics();
+        for(double value : values) statistics.accept(value);
+        return statistics;
+    }
+
+    @Override
+    public void accept(double value) {
+        count++;
+        double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+        if(value != value) {
+            nanCount++;
+            return;
+        }
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        if(value < 0) {
+            increment(negative, -value, 1);
+        } else {
+            increment(positive, Math.abs(value), 1);
+        }
+    }
+
+    /**
+     * Merge other partial statistics into this one.
+     *
+     * @param other Other statistics.
+     */
+    public void combine(Statistics other) {
+        if(other.count == 0) return;
+        long total = count + other.count;
+        double delta = other.mean - mean;
+        mean += delta * other.count / total;
+        m2 += other.m2 + delta * delta * ((double) count * other.count / total);
+        count = total;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        nanCount += other.nanCount;
+        combine(positive, other.positive);
+        combine(negative, other.negative);
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public double mean() {
+        return count == 0 ? Double.NaN : mean;
+    }
+
+    /**
+     * @return Population variance of the values (sum of squared deviations divided by count).
+     */
+    public double variance() {
+        return count == 0 ? Double.NaN : m2 / count;
+    }
+
+    public double standardDeviation() {
+        return Math.sqrt(variance());
+    }
+
+    public double min() {
+        return count == 0 || nanCount > 0 ? Double.NaN : min;
+    }
+
+    public double max() {
+        return count == 0 || nanCount > 0 ? Double.NaN : max;
+    }
+
+    /**
+     * Estimate percentile of the values using nearest rank method.
+     *
+     * @param percent Percentile (0 - 100), e.g. 99 for p99, 50 for median.
+     * @return Estimated value of the percentile, or NaN if there are no values.
+     */
+    public double percentile(double percent) {
+        if(percent < 0 || percent > 100) {
+            throw new IllegalArgumentException("Percentile out of range 0 - 100: " + percent);
+        }
+        if(count == 0) return Double.NaN;
+        long rank = Math.max(1, (long) Math.ceil(percent / 100 * count));
+        for(int row = ROWS - 1; row >= 0; row--) if(negative[row] != null) for(int sub = SUB_BUCKETS - 1; sub >= 0; sub--) {
+            rank -= negative[row][sub];
+            if(rank <= 0) return clamp(-middle(row << SUB_BUCKET_BITS | sub));
+        }
+        for(int row = 0; row < ROWS; row++) if(positive[row] != null) for(int sub = 0; sub < SUB_BUCKETS; sub++) {
+            rank -= positive[row][sub];
+            if(rank <= 0) return clamp(middle(row << SUB_BUCKET_BITS | sub));
+        }
+        return Double.NaN;
+    }
+
+    /**
+     * Estimate fraction of values outside of given range. Boundaries are inclusive at the resolution of the histogram,
+     * so values in the buckets containing the boundaries are counted as inside. NaN values are always outside.
+     *
+     * @param low Lower boundary of the range.
+     * @param high Upper boundary of the range.
+     * @return Fraction (0 - 1) of values less than low or greater than high, or NaN if there are no values or any
+     *         boundary is NaN.
+     */
+    public double fractionOutside(double low, double high) {
+        if(count == 0 || low != low || high != high) return Double.NaN;
+        long inside = low > high ? 0 : countBelow(high, true) - countBelow(low, false);
+        return (double) (count - inside) / count;
+    }
+
+    /**
+     * Estimate fraction of values deviating from mean more than given multiple of standard deviation. Values deviating
+     * exactly by the multiple are not outliers, so e.g. constant values have no outliers.
+     *
+     * @param sigmas Multiple of standard deviation.
+     * @return Fraction (0 - 1) of outliers, or NaN if there are no values.
+     */
+    public double outlierFraction(double sigmas) {
+        double deviation = sigmas * standardDeviation();
+        return fractionOutside(mean() - deviation, mean() + deviation);
+    }
+
+    /*
+     * Count values in buckets below the bucket of given value, optionally including the bucket of the value.
+     * Negative buckets are ordered by descending magnitude, and all of them are below non-negative values.
+     */
+    private long countBelow(double value, boolean inclusive) {
+        int bucket = key(Math.abs(value));
+        long below = 0;
+        for(int row = 0; row < ROWS; row++) if(negative[row] != null) for(int sub = 0; sub < SUB_BUCKETS; sub++) {
+            int key = row << SUB_BUCKET_BITS | sub;
+            if(value >= 0 || key > bucket || inclusive && key == bucket) below += negative[row][sub];
+        }
+        if(value < 0) return below;
+        for(int row = 0; row < ROWS; row++) if(positive[row] != null) for(int sub = 0; sub < SUB_BUCKETS; sub++) {
+            int key = row << SUB_BUCKET_BITS | sub;
+            if(key < bucket || inclusive && key == bucket) below += positive[row][sub];
+        }
+        return below;
+    }
+
+    private double clamp(double value) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    private static int key(double magnitude) {
+        return (int) (doubleToRawLongBits(magnitude) >>> SHIFT);
+    }
+
+    private static void increment(long[][] histogram, double magnitude, long count) {
+        int key = key(magnitude);
+        long[] row = histogram[key >>> SUB_BUCKET_BITS];
+        if(row == null) {
+            row = histogram[key >>> SUB_BUCKET_BITS] = new long[SUB_BUCKETS];
+        }
+        row[key & (SUB_BUCKETS - 1)] += count;
+    }
+
+    private static void combine(long[][] histogram, long[][] other) {
+        for(int i = 0; i < ROWS; i++) {
+            if(other[i] == null) continue;
+            if(histogram[i] == null) histogram[i] = new long[SUB_BUCKETS];
+            for(int j = 0; j < SUB_BUCKETS; j++) histogram[i][j] += other[i][j];
+        }
+    }
+
+    private static double lower(int key) {
+        return longBitsToDouble((long) key << SHIFT);
+    }
+
+    private static double upper(int key) {
+        double lower = lower(key);
+        return Double.isInfinite(lower) ? lower : longBitsToDouble((long) (key + 1) << SHIFT);
+    }
+
+    private static double middle(int key) {
+        if(key == 0) return 0;
+        double upper = upper(key);
+        return Double.isInfinite(upper) ? lower(key) : (lower(key) + upper) / 2;
+    }
+
+    @Override
+    public String toString() {
+        return "count=" + count + ", mean=" + mean() + ", stddev=" + standardDeviation() + ", min=" + min() + ", max=" + max();
+    }
+
+}
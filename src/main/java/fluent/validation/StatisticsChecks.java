@@ -0,0 +1,182 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2021, Ondrej Fischer
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package fluent.validation;
+
+import fluent.validation.processor.Factory;
+
+import java.util.Iterator;
+import java.util.stream.DoubleStream;
+
+import static fluent.validation.BasicChecks.compose;
+import static fluent.validation.BasicChecks.requireNotNull;
+import static fluent.validation.ComparisonChecks.doubleEqualOrLessThan;
+import static fluent.validation.ComparisonChecks.doubleLessThan;
+import static fluent.validation.NumericChecks.doubleCloseTo;
+
+/**
+ * Checks of statistical aggregates (mean, standard deviation, percentiles, outliers) of large sequences of numbers.
+ * Values are accumulated in a single pass into constant size Statistics (see its documentation for precision of
+ * the estimates), so the sequence is never materialized, and the checks are then applied on the accumulated
+ * statistics, e.g.:
+ *
+ * collection(statistics(mean(closeTo(10, 0.1)).and(percentileBelow(99, 25.0))))
+ *
+ * Parallel streams are reduced into partial statistics, which are then combined.
+ */
+@Factory
+public final class StatisticsChecks {
+
+    private StatisticsChecks() {}
+
+    /* ------------------------------------------------------------------------------------------------------
+     * Sources of statistics.
+     * ------------------------------------------------------------------------------------------------------
+     */
+
+    /**
+     * Accumulate statistics of numbers provided by an iterator (see collection(), stream(), etc. in CollectionChecks),
+     * and apply the check on them.
+     *
+     * @param check Check of the accumulated statistics.
+     * @param <N> Type of the numbers.
+     * @return Check of the iterator.
+     */
+    public static <N extends Number> Check<Iterator<N>> statistics(Check<? super Statistics> check) {
+        return requireNotNull(compose("statistics", (Iterator<N> iterator) -> Statistics.of(iterator), check));
+    }
+
+    public static Check<int[]> intArrayStatistics(Check<? super Statistics> check) {
+        return requireNotNull(compose("statistics", (int[] array) -> Statistics.of(array), check));
+    }
+
+    public static Check<long[]> longArrayStatistics(Check<? super Statistics> check) {
+        return requireNotNull(compose("statistics", (long[] array) -> Statistics.of(array), check));
+    }
+
+    public static Check<double[]> doubleArrayStatistics(Check<? super Statistics> check) {
+        return requireNotNull(compose("statistics", (double[] array) -> Statistics.of(array), check));
+    }
+
+    /**
+     * Accumulate statistics of a double stream. If the stream is parallel, partial statistics are accumulated
+     * in parallel, and combined.
+     *
+     * @param check Check of the accumulated statistics.
+     * @return Check of the double stream.
+     */
+    public static Check<DoubleStream> doubleStreamStatistics(Check<? super Statistics> check) {
+        return requireNotNull(compose("statistics", (DoubleStream stream) -> stream.collect(Statistics::new, Statistics::accept, Statistics::combine), check));
+    }
+
+    /* ------------------------------------------------------------------------------------------------------
+     * Checks of statistics.
+     * ------------------------------------------------------------------------------------------------------
+     */
+
+    public static Check<Statistics> sampleCount(Check<? super Long> check) {
+        return compose("count", Statistics::count, check);
+    }
+
+    public static Check<Statistics> mean(Check<? super Double> check) {
+        return compose("mean", Statistics::mean, check);
+    }
+
+    public static Check<Statistics> meanWithin(double expectedValue, double epsilon) {
+        return mean(doubleCloseTo(expectedValue, epsilon));
+    }
+
+    public static Check<Statistics> variance(Check<? super Double> check) {
+        return compose("variance", Statistics::variance, check);
+    }
+
+    public static Check<Statistics> standardDeviation(Check<? super Double> check) {
+        return compose("standard deviation", Statistics::standardDeviation, check);
+    }
+
+    public static Check<Statistics> standardDeviationBelow(double limit) {
+        return standardDeviation(doubleLessThan(limit));
+    }
+
+    public static Check<Statistics> minimum(Check<? super Double> check) {
+        return compose("min", Statistics::min, check);
+    }
+
+    public static Check<Statistics> maximum(Check<? super Double> check) {
+        return compose("max", Statistics::max, check);
+    }
+
+    /**
+     * Check estimated percentile of the values.
+     *
+     * @param percent Percentile (0 - 100), e.g. 99 for p99.
+     * @param check Check of the percentile value.
+     * @return Check of the statistics.
+     */
+    public static Check<Statistics> percentile(double percent, Check<? super Double> check) {
+        if(percent < 0 || percent > 100) {
+            throw new IllegalArgumentException("Percentile out of range 0 - 100: " + percent);
+        }
+        String name = "p" + (percent == Math.rint(percent) ? String.valueOf((long) percent) : String.valueOf(percent));
+        return compose(name, statistics -> statistics.percentile(percent), check);
+    }
+
+    public static Check<Statistics> percentileBelow(double percent, double limit) {
+        return percentile(percent, doubleLessThan(limit));
+    }
+
+    /**
+     * Check estimated percentage of outliers, i.e. values deviating from mean more than given multiple of standard
+     * deviation.
+     *
+     * @param sigmas Multiple of standard deviation.
+     * @param check Check of the percentage (0 - 100).
+     * @return Check of the statistics.
+     */
+    public static Check<Statistics> outlierPercentage(double sigmas, Check<? super Double> check) {
+        return compose("% of outliers beyond " + sigmas + " sigma", statistics -> 100 * statistics.outlierFraction(sigmas), check);
+    }
+
+    public static Check<Statistics> outliersAtMost(double sigmas, double percent) {
+        return outlierPercentage(sigmas, doubleEqualOrLessThan(percent));
+    }
+
+    /**
+     * Check estimated percentage of values outside of the range (inclusive).
+     *
+     * @param low Lower boundary of the range.
+     * @param high Upper boundary of the range.
+     * @param check Check of the percentage (0 - 100).
+     * @return Check of the statistics.
+     */
+    public static Check<Statistics> percentageOutside(double low, double high, Check<? super Double> check) {
+        return compose("% outside of [" + low + ", " + high + "]", statistics -> 100 * statistics.fractionOutside(low, high), check);
+    }
+
+}
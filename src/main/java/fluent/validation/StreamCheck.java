@@ -0,0 +1,70 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2021, Ondrej Fischer
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package fluent.validation;
+
+import fluent.validation.result.Result;
+import fluent.validation.result.ResultFactory;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Adapter of an iterator check to a stream.
+ * Elements are pulled from the stream lazily one by one, so the stream pipeline doesn't need to be materialized, and
+ * the stream is closed as soon as the iterator check is decided. That way the source of the stream (e.g. file lines,
+ * database cursor or subscription registered using onClose()) is released without reading remaining elements.
+ *
+ * @param <T> Type of the elements in the stream.
+ */
+final class StreamCheck<T> implements Check<Stream<T>> {
+
+    private final Check<Iterator<T>> check;
+
+    StreamCheck(Check<Iterator<T>> check) {
+        this.check = check;
+    }
+
+    @Override
+    public Result evaluate(Stream<T> data, ResultFactory factory) {
+        try(Stream<T> stream = data) {
+            return check.evaluate(stream.iterator(), factory);
+        } catch (UncheckedInterruptedException interrupted) {
+            throw interrupted;
+        } catch (Exception | Error unchecked) {
+            return factory.error(unchecked);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "" + check;
+    }
+
+}
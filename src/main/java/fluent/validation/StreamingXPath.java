@@ -0,0 +1,385 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2021, Ondrej Fischer
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package fluent.validation;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+
+/**
+ * Subset of XPath, which can be evaluated in one pass over a stream of XML events.
+ *
+ * Supported are absolute location paths consisting of child (/) and descendant (//) steps, where every step is either
+ * element name or *, optionally followed by attribute predicates [@name] or [@name='value'].
+ * The path selects text content of the matching elements, or it can end with step @name selecting attribute value,
+ * or step text() selecting the direct text nodes of the matching elements (elements without text select nothing).
+ * Values are selected in document order, like in XPath, so content of a matching element is provided only after
+ * the element ends, even if it contains other matching elements.
+ *
+ * E.g. /feed/entry[@type='order']/@id, //item/price, //item[@available]/text()
+ *
+ * Matching is evaluated using bit sets of completed steps per open element, so one pass needs memory proportional
+ * only to the depth of the document (plus text of currently open matching elements and of values selected after
+ * them).
+ */
+final class StreamingXPath {
+
+    private final String xPath;
+    private final Step[] steps;
+    private final String attribute;
+    private final boolean directText;
+
+    StreamingXPath(String xPath) {
+        this.xPath = xPath;
+        List<Step> steps = new ArrayList<>();
+        String attribute = null;
+        boolean directText = false;
+        int i = 0;
+        while(i < xPath.length()) {
+            if(attribute != null || directText) {
+                throw unsupported("@attribute or text() must be the last step");
+            }
+            boolean descendant = xPath.startsWith("//", i);
+            if(!descendant && xPath.charAt(i) != '/') {
+                throw unsupported("only absolute paths are supported");
+            }
+            i += descendant ? 2 : 1;
+            int end = stepEnd(i);
+            String token = xPath.substring(i, end).trim();
+            if(token.startsWith("@")) {
+                if(descendant) {
+                    throw unsupported("descendant attribute step is not supported");
+                }
+                attribute = name(token.substring(1));
+            } else if(token.equals("text()")) {
+                if(descendant) {
+                    throw unsupported("descendant text() step is not supported");
+                }
+                directText = true;
+            } else {
+                steps.add(step(descendant, token));
+            }
+            i = end;
+        }
+        if(steps.isEmpty()) {
+            throw unsupported("at least one element step is required");
+        }
+        if(steps.size() > 62) {
+            throw unsupported("too many steps");
+        }
+        this.steps = steps.toArray(new Step[0]);
+        this.attribute = attribute;
+        this.directText = directText;
+    }
+
+    private IllegalArgumentException unsupported(String reason) {
+        return new IllegalArgumentException("Unsupported streaming XPath " + xPath + ": " + reason);
+    }
+
+    private int stepEnd(int start) {
+        int depth = 0;
+        char quote = 0;
+        for(int i = start; i < xPath.length(); i++) {
+            char c = xPath.charAt(i);
+            if(quote != 0) {
+                if(c == quote) quote = 0;
+            } else if(c == '\'' || c == '"') {
+                quote = c;
+            } else if(c == '[') {
+                depth++;
+            } else if(c == ']') {
+                depth--;
+            } else if(c == '/' && depth == 0) {
+                return i;
+            }
+        }
+        if(depth != 0 || quote != 0) {
+            throw unsupported("unterminated predicate");
+        }
+        return xPath.length();
+    }
+
+    private String name(String token) {
+        String name = token.trim();
+        if(name.isEmpty() || !name.chars().allMatch(c -> Character.isLetterOrDigit(c) || c == '_' || c == '-' || c == '.' || c == ':' || c == '*')) {
+            throw unsupported("invalid name '" + name + "'");
+        }
+        return name;
+    }
+
+    private Step step(boolean descendant, String token) {
+        int bracket = token.indexOf('[');
+        String name = name(bracket < 0 ? token : token.substring(0, bracket));
+        List<String> names = new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        while(bracket >= 0) {
+            int close = predicateEnd(token, bracket);
+            String predicate = token.substring(bracket + 1, close).trim();
+            if(!predicate.startsWith("@")) {
+                throw unsupported("only attribute predicates are supported");
+            }
+            int equals = predicate.indexOf('=');
+            if(equals < 0) {
+                names.add(name(predicate.substring(1)));
+                values.add(null);
+            } else {
+                String value = predicate.substring(equals + 1).trim();
+                if(value.length() < 2 || value.charAt(0) != value.charAt(value.length() - 1) || (value.charAt(0) != '\'' && value.charAt(0) != '"')) {
+                    throw unsupported("predicate value must be quoted string");
+                }
+                names.add(name(predicate.substring(1, equals)));
+                values.add(value.substring(1, value.length() - 1));
+            }
+            String rest = token.substring(close + 1).trim();
+            if(!rest.isEmpty() && rest.charAt(0) != '[') {
+                throw unsupported("unexpected '" + rest + "'");
+            }
+            bracket = rest.isEmpty() ? -1 : token.indexOf('[', close);
+        }
+        return new Step(descendant, name.equals("*") ? null : name, names.toArray(new String[0]), values.toArray(new String[0]));
+    }
+
+    private static int predicateEnd(String token, int start) {
+        char quote = 0;
+        for(int i = start + 1; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if(quote != 0) {
+                if(c == quote) quote = 0;
+            } else if(c == '\'' || c == '"') {
+                quote = c;
+            } else if(c == ']') {
+                return i;
+            }
+        }
+        return token.length() - 1;
+    }
+
+    /**
+     * Select values matching this path from the XML stream lazily. The reader is advanced only as much as needed to
+     * provide the next value.
+     *
+     * @param reader XML stream reader.
+     * @return Iterator of selected values.
+     */
+    Iterator<String> select(XMLStreamReader reader) {
+        return new Selection(reader);
+    }
+
+    @Override
+    public String toString() {
+        return xPath;
+    }
+
+    private static String name(String prefix, String localName) {
+        return prefix == null || prefix.isEmpty() ? localName : prefix + ":" + localName;
+    }
+
+    private static String attributeValue(XMLStreamReader reader, String name) {
+        for(int i = 0; i < reader.getAttributeCount(); i++) {
+            if(name.equals(name(reader.getAttributePrefix(i), reader.getAttributeLocalName(i)))) {
+                return reader.getAttributeValue(i);
+            }
+        }
+        return null;
+    }
+
+    private static final class Step {
+        private final boolean descendant;
+        private final String name;
+        private final String[] attributes;
+        private final String[] values;
+
+        private Step(boolean descendant, String name, String[] attributes, String[] values) {
+            this.descendant = descendant;
+            this.name = name;
+            this.attributes = attributes;
+            this.values = values;
+        }
+
+        private boolean matches(XMLStreamReader reader) {
+            if(name != null && !name.equals(name.indexOf(':') < 0 ? reader.getLocalName() : name(reader.getPrefix(), reader.getLocalName()))) {
+                return false;
+            }
+            for(int i = 0; i < attributes.length; i++) {
+                String value = attributeValue(reader, attributes[i]);
+                if(value == null || values[i] != null && !values[i].equals(value)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Failure of reading the XML stream during iteration.
+     */
+    static final class ReadFailure extends RuntimeException {
+        ReadFailure(XMLStreamException cause) {
+            super(cause);
+        }
+    }
+
+    private final class Selection implements Iterator<String> {
+        private final XMLStreamReader reader;
+        private final Queue<Text> selected = new ArrayDeque<>();
+        private final List<Text> open = new ArrayList<>();
+        private long[] completed = new long[16];
+        private long[] carried = new long[16];
+        private int depth = 0;
+        private boolean ended;
+
+        private Selection(XMLStreamReader reader) {
+            this.reader = reader;
+            this.completed[0] = 1L;
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                while((selected.isEmpty() || selected.peek().value == null) && !ended) {
+                    advance();
+                }
+            } catch (XMLStreamException e) {
+                throw new ReadFailure(e);
+            }
+            return !selected.isEmpty() && selected.peek().value != null;
+        }
+
+        @Override
+        public String next() {
+            if(!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return selected.poll().value;
+        }
+
+        private void advance() throws XMLStreamException {
+            if(!reader.hasNext()) {
+                ended = true;
+                return;
+            }
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT:
+                    endTextNode();
+                    start();
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE:
+                    for(Text text : open) {
+                        if(!directText || text.depth == depth) {
+                            text.content.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                        }
+                    }
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    endTextNode();
+                    if(!open.isEmpty() && open.get(open.size() - 1).depth == depth) {
+                        Text text = open.remove(open.size() - 1);
+                        if(!directText) {
+                            text.value = text.content.toString();
+                        }
+                    }
+                    depth--;
+                    break;
+                case XMLStreamConstants.COMMENT:
+                case XMLStreamConstants.PROCESSING_INSTRUCTION:
+                    endTextNode();
+                    break;
+                case XMLStreamConstants.END_DOCUMENT:
+                    ended = true;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        private void endTextNode() {
+            if(directText && !open.isEmpty()) {
+                Text text = open.get(open.size() - 1);
+                if(text.depth == depth && text.content.length() > 0) {
+                    selected.add(new Text(depth, text.content.toString()));
+                    text.content.setLength(0);
+                }
+            }
+        }
+
+        private void start() {
+            long parent = completed[depth];
+            long ancestors = carried[depth] | parent;
+            long done = 0;
+            for(int j = 0; j < steps.length; j++) {
+                long required = 1L << j;
+                if(((steps[j].descendant ? ancestors : parent) & required) != 0 && steps[j].matches(reader)) {
+                    done |= required << 1;
+                }
+            }
+            if(++depth == completed.length) {
+                completed = Arrays.copyOf(completed, depth * 2);
+                carried = Arrays.copyOf(carried, depth * 2);
+            }
+            completed[depth] = done;
+            carried[depth] = ancestors;
+            if((done & (1L << steps.length)) != 0) {
+                if(attribute == null) {
+                    Text text = new Text(depth, null);
+                    open.add(text);
+                    if(!directText) {
+                        selected.add(text);
+                    }
+                } else {
+                    String value = attributeValue(reader, attribute);
+                    if(value != null) {
+                        selected.add(new Text(depth, value));
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class Text {
+        private final int depth;
+        private final StringBuilder content = new StringBuilder();
+        private String value;
+
+        private Text(int depth, String value) {
+            this.depth = depth;
+            this.value = value;
+        }
+    }
+
+}
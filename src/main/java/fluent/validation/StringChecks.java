@@ -66,31 +66,69 @@ public final class StringChecks {
     }
 
     public static Check<String> startsCaseInsensitiveWith(String prefix) {
-        return check(data -> data.toLowerCase().startsWith(prefix.toLowerCase()), "starts with " + prefix);
+        return check(new CaseInsensitive(prefix)::isPrefixOf, "starts with " + prefix);
     }
 
     public static Check<String> endsWith(String suffix) {
-        return check(data -> data.startsWith(suffix), "ends with %s" + suffix);
+        return check(data -> data.endsWith(suffix), "ends with <" + suffix + ">");
     }
 
     public static Check<String> endsCaseInsensitiveWith(String suffix) {
-        return check(data -> data.toLowerCase().startsWith(suffix.toLowerCase()), "ends with " + suffix);
+        return check(new CaseInsensitive(suffix)::isSuffixOf, "ends with " + suffix);
     }
 
     public static Check<String> contains(String substring) {
-        return check(data -> data.contains(substring), "contains "+ substring);
+        return new ContainsCheck(substring);
+    }
+
+    /**
+     * Check, that a string contains at least one of the substrings. All substrings are searched in a single pass
+     * using Aho-Corasick automaton, and the search stops on the first found substring.
+     *
+     * @param substrings Searched substrings.
+     * @return Check reporting the found substring, or all substrings if none is found.
+     */
+    public static Check<String> containsAnyOf(String... substrings) {
+        return new MultiContainsCheck<>(false, substrings);
+    }
+
+    /**
+     * Check, that a string contains all of the substrings. All substrings are searched in a single pass using
+     * Aho-Corasick automaton, and the search stops when all substrings are found.
+     *
+     * @param substrings Searched substrings.
+     * @return Check reporting found and missing substrings.
+     */
+    public static Check<String> containsAllOf(String... substrings) {
+        return new MultiContainsCheck<>(true, substrings);
     }
 
     public static Check<String> containsCaseInsensitive(String substring) {
-        return check(data -> data.toLowerCase().contains(substring.toLowerCase()), "contains " + substring);
+        return check(new CaseInsensitive(substring)::isContainedIn, "contains " + substring);
     }
 
     public static Check<String> matches(Pattern pattern) {
-        return check(v -> pattern.matcher(v).find(), "matches /" + pattern + '/');
+        return new RegexCheckBuilder<>(pattern);
     }
 
     public static Check<String> matchesPattern(String pattern) {
-        return matches(Pattern.compile(pattern));
+        return matches(Patterns.compile(pattern));
+    }
+
+    /**
+     * Regular expression check with checks of captured groups, e.g.
+     * matchesWith(pattern).group("level", equalTo("ERROR")).group("code", startsWith("E1")).
+     * The match is found only once, and all group checks are applied on the captured values.
+     *
+     * @param pattern Regular expression, which the string must contain match of.
+     * @return Builder of the check.
+     */
+    public static RegexCheckBuilder<String> matchesWith(Pattern pattern) {
+        return new RegexCheckBuilder<>(pattern);
+    }
+
+    public static RegexCheckBuilder<String> matchesWith(String pattern) {
+        return matchesWith(Patterns.compile(pattern));
     }
 
 }
@@ -33,19 +33,18 @@ import fluent.validation.result.Aggregator;
 import fluent.validation.result.Result;
 import fluent.validation.result.ResultFactory;
 
-import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
-import java.util.ListIterator;
 
 /**
- * Check, making sure, that an actual collection meets provided conditions in exact order:
- *   1st item matches 1st check, 2nd item matches 2nd check, etc. and there must not be any item missing or
- *   extra (length of actual collection needs to match length of collection of conditions).
+ * Check, making sure, that an actual collection contains continuous subsequence of items matching provided
+ * conditions in exact order.
+ *
+ * Evaluation tracks lengths of currently matched prefixes of the conditions only (not the items), so it's memory is
+ * bounded by number of the conditions regardless of length of the actual collection.
  *
  * @param <D> Type of the items in the collection.
  */
-final class SubsequenceCheck<D> implements Check<Iterator<D>> {
+final class SubsequenceCheck<D> implements SequenceCheck<D> {
 
     private final String elementName;
     private final List<Check<? super D>> checks;
@@ -56,28 +55,46 @@ final class SubsequenceCheck<D> implements Check<Iterator<D>> {
     }
 
     @Override
-    public Result evaluate(Iterator<D> data, ResultFactory factory) {
-        if(data == null) {
-            return factory.expectation(this, false);
-        }
-        Aggregator resultBuilder = factory.aggregator(this);
-        List<Integer> prefixes = new ArrayList<>();
-        while (data.hasNext()) {
-            D item = data.next();
-            prefixes.add(0);
-            for(ListIterator<Integer> prefixesIterator = prefixes.listIterator(); prefixesIterator.hasNext(); ) {
-                int prefixLength = prefixesIterator.next();
-                if(resultBuilder.add(checks.get(prefixLength).evaluate(item, factory)).passed()) {
-                    if(prefixLength + 1 == checks.size()) {
-                        return resultBuilder.build(elementName + "s matched checks", true);
+    public Evaluation<D> evaluation(ResultFactory factory) {
+        return new Evaluation<D>() {
+            private final Aggregator resultBuilder = factory.aggregator(SubsequenceCheck.this);
+            private final boolean[] prefixes = new boolean[checks.size()];
+            private Result result = checks.isEmpty() ? resultBuilder.build(elementName + "s matched checks", true) : null;
+
+            @Override
+            public boolean feed(D item) {
+                if(result != null) {
+                    return true;
+                }
+                prefixes[0] = true;
+                for(int prefixLength = prefixes.length - 1; prefixLength >= 0; prefixLength--) {
+                    if(prefixes[prefixLength]) {
+                        prefixes[prefixLength] = false;
+                        if(resultBuilder.add(checks.get(prefixLength).evaluate(item, factory)).passed()) {
+                            if(prefixLength + 1 == prefixes.length) {
+                                result = resultBuilder.build(elementName + "s matched checks", true);
+                                return true;
+                            }
+                            prefixes[prefixLength + 1] = true;
+                        }
                     }
-                    prefixesIterator.set(prefixLength + 1);
-                } else {
-                    prefixesIterator.remove();
                 }
+                return false;
+            }
+
+            @Override
+            public boolean decided() {
+                return result != null;
+            }
+
+            @Override
+            public Result result() {
+                if(result == null) {
+                    result = resultBuilder.build(elementName + "s matched checks", false);
+                }
+                return result;
             }
-        }
-        return resultBuilder.build(elementName + "s matched checks", false);
+        };
     }
 
     @Override
@@ -0,0 +1,102 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2021, Ondrej Fischer
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package fluent.validation;
+
+import fluent.validation.processor.Factory;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static fluent.validation.BasicChecks.*;
+import static fluent.validation.Transformation.dontTransformNull;
+
+/**
+ * String checks applied directly on UTF-8 encoded bytes, without decoding them into String. Expected values are
+ * encoded once when the check is created, and as UTF-8 is self-synchronizing, byte level prefix, suffix and substring
+ * matching gives the same results as on decoded strings.
+ *
+ * The checks are applied on remaining bytes of a ByteBuffer (between its position and limit), which are accessed
+ * using absolute access, so the buffer state is not modified. Byte arrays can be checked using utf8Bytes(check).
+ */
+@Factory
+public final class Utf8Checks {
+
+    private Utf8Checks() {}
+
+    private static BytePattern utf8(String value) {
+        return new BytePattern(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Check byte array using a ByteBuffer check (e.g. utf8Contains()) on a buffer wrapping the array (no copy).
+     *
+     * @param check ByteBuffer check.
+     * @return Byte array check.
+     */
+    public static Check<byte[]> utf8Bytes(Check<? super ByteBuffer> check) {
+        return transform(dontTransformNull(ByteBuffer::wrap), check);
+    }
+
+    public static Check<ByteBuffer> utf8EqualTo(String expectedValue) {
+        return check(utf8(expectedValue)::contentEquals, "<" + expectedValue + ">");
+    }
+
+    public static Check<ByteBuffer> utf8StartsWith(String prefix) {
+        return check(utf8(prefix)::isPrefixOf, "starts with <" + prefix + ">");
+    }
+
+    public static Check<ByteBuffer> utf8EndsWith(String suffix) {
+        return check(utf8(suffix)::isSuffixOf, "ends with <" + suffix + ">");
+    }
+
+    public static Check<ByteBuffer> utf8Contains(String substring) {
+        return check(utf8(substring)::isContainedIn, "contains " + substring);
+    }
+
+    /**
+     * Check length of the UTF-8 encoded text in code points (the same as String.codePointCount() of decoded text).
+     *
+     * @param check Check of the length.
+     * @return ByteBuffer check.
+     */
+    public static Check<ByteBuffer> utf8Length(Check<? super Integer> check) {
+        return requireNotNull(compose("code points", Utf8Checks::codePoints, check));
+    }
+
+    private static int codePoints(ByteBuffer buffer) {
+        int count = 0;
+        for(int i = buffer.position(), limit = buffer.limit(); i < limit; i++) {
+            // Every byte except of continuation bytes (10xxxxxx) starts a new code point.
+            if((buffer.get(i) & 0xC0) != 0x80) count++;
+        }
+        return count;
+    }
+
+}
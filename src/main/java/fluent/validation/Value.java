@@ -33,6 +33,7 @@ import fluent.validation.result.Result;
 import fluent.validation.result.ResultFactory;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -53,7 +54,15 @@ import java.util.List;
  * @param <D> Type of the value to capture.
  */
 public class Value<D> {
-    private final List<D> values = new ArrayList<>();
+    private final Storage<D> values;
+
+    public Value() {
+        this(new ListStorage<>());
+    }
+
+    Value(Storage<D> values) {
+        this.values = values;
+    }
 
     public final Check<D> storeWhen(Check<? super D> condition) {
         return new Check<D>() {
@@ -76,13 +85,49 @@ public class Value<D> {
     public final D get() {
         if(values.isEmpty())
             throw new IllegalStateException("Value was not stored yet. Use method storeWhen(check) first or check, if evaluation of that method wasn't missed due to fast pass / fail composition or requirement not met in required check.");
-        return values.get(values.size() - 1);
+        return values.last();
     }
 
     public final List<D> getAll() {
         if(values.isEmpty())
             throw new IllegalStateException("Value was not stored yet. Use method storeWhen(check) first or check, if evaluation of that method wasn't missed due to fast pass / fail composition or requirement not met in required check.");
-        return new ArrayList<>(values);
+        return values.copy();
+    }
+
+    interface Storage<D> extends Iterable<D> {
+        void add(D value);
+        boolean isEmpty();
+        D last();
+        List<D> copy();
+    }
+
+    private static final class ListStorage<D> implements Storage<D> {
+        private final List<D> values = new ArrayList<>();
+
+        @Override
+        public void add(D value) {
+            values.add(value);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return values.isEmpty();
+        }
+
+        @Override
+        public D last() {
+            return values.get(values.size() - 1);
+        }
+
+        @Override
+        public List<D> copy() {
+            return new ArrayList<>(values);
+        }
+
+        @Override
+        public Iterator<D> iterator() {
+            return values.iterator();
+        }
     }
 
 }
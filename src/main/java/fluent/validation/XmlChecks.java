@@ -34,37 +34,38 @@ import org.w3c.dom.Document;
 import org.xml.sax.InputSource;
 
 import javax.xml.namespace.QName;
-import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.xpath.*;
 
 import java.io.StringReader;
+import java.nio.file.Path;
+import java.util.Iterator;
 
+import static fluent.validation.XmlEngines.documentBuilder;
+import static fluent.validation.XmlEngines.expression;
 import static java.lang.Boolean.TRUE;
 
 @Factory
 public final class XmlChecks {
 
-    private static final XPath xPath = XPathFactory.newInstance().newXPath();
-    private static final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-
     private XmlChecks() {}
 
-    private static XPathExpression compile(String xPath) {
-        try {
-            return XmlChecks.xPath.compile(xPath);
-        } catch (XPathExpressionException e) {
-            throw new IllegalArgumentException(e);
-        }
-    }
-
+    /**
+     * Check, that XML node matches provided XPath.
+     * XPath expression is compiled eagerly in order to report invalid XPath on check creation, but the evaluation
+     * uses expression compiled for the current thread, as compiled expressions are not thread safe.
+     *
+     * @param xPath XPath expression evaluated as boolean.
+     * @return XML node check.
+     * @throws IllegalArgumentException if the XPath expression is invalid.
+     */
     public static Check<Object> matchesXPath(String xPath) {
-        XPathExpression xPathExpression = compile(xPath);
-        return BasicChecks.check(xml -> TRUE.equals(xPathExpression.evaluate(xml, XPathConstants.BOOLEAN)), xPath);
+        expression(xPath);
+        return BasicChecks.check(xml -> TRUE.equals(expression(xPath).evaluate(xml, XPathConstants.BOOLEAN)), xPath);
     }
 
     public static TransformationBuilder<Object, CheckBuilder<Object>> hasNode(String xPath, QName type) {
-        XPathExpression xPathExpression = compile(xPath);
-        return BasicChecks.has(xPath, xml -> xPathExpression.evaluate(xml, type));
+        expression(xPath);
+        return BasicChecks.has(xPath, xml -> expression(xPath).evaluate(xml, type));
     }
 
     public static TransformationBuilder<Object, CheckBuilder<Object>> hasNode(String xPath) {
@@ -72,28 +73,75 @@ public final class XmlChecks {
     }
 
     public static TransformationBuilder<Object, CheckBuilder<String>> hasTextContent(String xPath) {
-        XPathExpression xPathExpression = compile(xPath);
-        return BasicChecks.has(xPath, xPathExpression::evaluate);
+        expression(xPath);
+        return BasicChecks.has(xPath, xml -> expression(xPath).evaluate(xml));
     }
 
     /**
      * Use string parameter as XML content, and check the file using DOM Document check.
+     * In order to apply multiple checks to the content parsed only once, combine them using
+     * parseXml(allOf(check1, check2)) rather than parseXml(check1).and(parseXml(check2)).
      *
      * @param check DOM Document check.
      * @return String content check.
      */
     public static Check<String> parseXml(Check<? super Document> check) {
-        return BasicChecks.transform(string -> factory.newDocumentBuilder().parse(new InputSource(new StringReader(string))), check);
+        return BasicChecks.transform(string -> documentBuilder().parse(new InputSource(new StringReader(string))), check);
     }
 
     /**
      * Use string parameter as path to XML file, and check the file using DOM Document check.
+     * Multiple checks of the file loaded only once can be combined using loadXml(allOf(check1, check2)).
      *
      * @param check DOM Document check.
      * @return File name check.
      */
     public static Check<String> loadXml(Check<? super Document> check) {
-        return BasicChecks.transform(string -> factory.newDocumentBuilder().parse(string), check);
+        return BasicChecks.transform(XmlChecks::load, check);
+    }
+
+    /*
+     * Regular files are parsed from memory mapped windows, other locations (e.g. URIs) are left to the document builder.
+     */
+    private static Document load(String location) throws Exception {
+        Path path = MappedFile.regularFile(location);
+        if(path == null) {
+            return documentBuilder().parse(location);
+        }
+        try(MappedFile file = new MappedFile(path)) {
+            return documentBuilder().parse(file.inputStream(), path.toUri().toString());
+        }
+    }
+
+    /**
+     * Use string parameter as XML content, and check values selected by streaming XPath using an iterator check
+     * (e.g. everyItem(), existsItem(), contains(), startsWith()).
+     * The content is not parsed into DOM Document, but read as a stream of events, and reading stops as soon as the
+     * iterator check is decided.
+     *
+     * Streaming XPath supports only subset of XPath: absolute paths of child (/) and descendant (//) element steps
+     * with optional attribute predicates ([@name] or [@name='value']), optionally ending with @name or text().
+     *
+     * @param xPath Streaming XPath selecting text content of elements or attribute values.
+     * @param check Check of the selected values.
+     * @return String content check.
+     */
+    public static Check<String> parseXmlStream(String xPath, Check<? super Iterator<String>> check) {
+        return BasicChecks.requireNotNull(new XmlStreamCheck(new StreamingXPath(xPath), check, false));
+    }
+
+    /**
+     * Use string parameter as path to XML file, and check values selected by streaming XPath using an iterator check.
+     * The file is read as a stream of events, so even documents exceeding available memory can be checked, and reading
+     * stops as soon as the iterator check is decided.
+     *
+     * @param xPath Streaming XPath selecting text content of elements or attribute values.
+     * @param check Check of the selected values.
+     * @return File name check.
+     * @see #parseXmlStream(String, Check)
+     */
+    public static Check<String> loadXmlStream(String xPath, Check<? super Iterator<String>> check) {
+        return BasicChecks.requireNotNull(new XmlStreamCheck(new StreamingXPath(xPath), check, true));
     }
 
 }
@@ -0,0 +1,118 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2021, Ondrej Fischer
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package fluent.validation;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-thread XML engines. Neither XPath, compiled XPathExpression nor DocumentBuilder are thread safe, so every thread
+ * gets its own instances. Compiled expressions are cached per thread in a bounded LRU cache keyed by the XPath string.
+ */
+final class XmlEngines {
+
+    private static final int EXPRESSION_CACHE_SIZE = Integer.getInteger("check.xpath.cache.size", 256);
+
+    private static final ThreadLocal<XmlEngines> ENGINES = ThreadLocal.withInitial(XmlEngines::new);
+
+    private final XPath xPath = XPathFactory.newInstance().newXPath();
+    private final DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactory.newInstance();
+    private DocumentBuilder documentBuilder;
+    private XMLInputFactory inputFactory;
+    private final Map<String, XPathExpression> expressions = new LinkedHashMap<String, XPathExpression>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, XPathExpression> eldest) {
+            return size() > EXPRESSION_CACHE_SIZE;
+        }
+    };
+
+    private XmlEngines() {}
+
+    /**
+     * Get compiled XPath expression for current thread.
+     *
+     * @param xPath XPath string.
+     * @return Compiled expression, which must not be shared with other threads.
+     * @throws IllegalArgumentException if the XPath is invalid.
+     */
+    static XPathExpression expression(String xPath) {
+        XmlEngines engines = ENGINES.get();
+        XPathExpression expression = engines.expressions.get(xPath);
+        if(expression == null) {
+            try {
+                expression = engines.xPath.compile(xPath);
+            } catch (XPathExpressionException e) {
+                throw new IllegalArgumentException(e);
+            }
+            engines.expressions.put(xPath, expression);
+        }
+        return expression;
+    }
+
+    /**
+     * Get document builder for current thread, reset to its initial state.
+     *
+     * @return Document builder, which must not be shared with other threads.
+     */
+    static DocumentBuilder documentBuilder() throws ParserConfigurationException {
+        XmlEngines engines = ENGINES.get();
+        if(engines.documentBuilder == null) {
+            engines.documentBuilder = engines.documentBuilderFactory.newDocumentBuilder();
+        } else {
+            engines.documentBuilder.reset();
+        }
+        return engines.documentBuilder;
+    }
+
+    /**
+     * Get StAX input factory for current thread. External entities and DTDs are not supported by the factory, so
+     * streamed documents can't trigger loading of other resources.
+     *
+     * @return XML input factory, which must not be shared with other threads.
+     */
+    static XMLInputFactory inputFactory() {
+        XmlEngines engines = ENGINES.get();
+        if(engines.inputFactory == null) {
+            engines.inputFactory = XMLInputFactory.newInstance();
+            engines.inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+            engines.inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        }
+        return engines.inputFactory;
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * BSD 2-Clause License
+ *
+ * Copyright (c) 2021, Ondrej Fischer
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  Redistributions of source code must retain the above copyright notice, this
+ *   list of conditions and the following disclaimer.
+ *
+ *  Redistributions in binary form must reproduce the above copyright notice,
+ *   this list of conditions and the following disclaimer in the documentation
+ *   and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package fluent.validation;
+
+import fluent.validation.result.Result;
+import fluent.validation.result.ResultFactory;
+
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Iterator;
+
+/**
+ * Check of values selected from XML document by streaming XPath. The document is read using StAX in one pass, and
+ * the values are provided to the iterator check lazily, so reading stops as soon as the check is decided, and the
+ * document is never loaded into memory as a whole.
+ */
+final class XmlStreamCheck implements Check<String> {
+
+    private final StreamingXPath xPath;
+    private final Check<? super Iterator<String>> check;
+    private final boolean file;
+
+    XmlStreamCheck(StreamingXPath xPath, Check<? super Iterator<String>> check, boolean file) {
+        this.xPath = xPath;
+        this.check = check;
+        this.file = file;
+    }
+
+    @Override
+    public Result evaluate(String data, ResultFactory factory) {
+        Result result;
+        try(InputStream input = file ? new BufferedInputStream(Files.newInputStream(Paths.get(data))) : null) {
+            XMLStreamReader reader = file
+                    ? XmlEngines.inputFactory().createXMLStreamReader(input)
+                    : XmlEngines.inputFactory().createXMLStreamReader(new StringReader(data));
+            try {
+                result = check.evaluate(xPath.select(reader), factory);
+            } finally {
+                reader.close();
+            }
+        } catch (StreamingXPath.ReadFailure failure) {
+            result = factory.error(failure.getCause());
+        } catch (UncheckedInterruptedException interrupted) {
+            throw interrupted;
+        } catch (Exception | Error unchecked) {
+            result = factory.error(unchecked);
+        }
+        return factory.named(xPath, result, result.passed());
+    }
+
+    @Override
+    public String toString() {
+        return xPath + " " + check;
+    }
+
+}
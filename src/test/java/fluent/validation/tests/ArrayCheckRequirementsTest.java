@@ -5,6 +5,8 @@ import fluent.validation.utils.Requirements;
 import static fluent.validation.Checks.emptyArray;
 import static fluent.validation.Checks.emptyArrayOrNull;
 import static fluent.validation.CollectionChecks.*;
+import static fluent.validation.ComparisonChecks.*;
+import static fluent.validation.NumericChecks.doubleCloseTo;
 import static fluent.validation.Items.items;
 import static fluent.validation.utils.Mocks.newArray;
 
@@ -75,4 +77,18 @@ public class ArrayCheckRequirementsTest extends Requirements {{
     testOf (newArray()). using (emptyArrayOrNull()). shouldReturn (true);
     testOf ((Object[]) null). using (emptyArrayOrNull()). shouldReturn (true);
 
+    testOf (new int[] {1, 2, 3}). using (everyIntItem(intLessThan(5))). shouldReturn (true);
+    testOf (new int[] {1, 7, 3}). using (everyIntItem(intLessThan(5))). shouldReturn (false);
+    testOf (new int[] {}). using (everyIntItem(intLessThan(5))). shouldReturn (true);
+    testOf (new int[] {}). using (existsIntItem(intLessThan(5))). shouldReturn (false);
+    testOf ((int[]) null). using (everyIntItem(intLessThan(5))). shouldReturn (false);
+    testOf (new long[] {1L, 7L}). using (existsLongItem(longMoreThan(5L))). shouldReturn (true);
+    testOf (new long[] {1L, 2L}). using (everyLongItem(longBetweenInclusive(1L, 2L))). shouldReturn (true);
+    testOf (new double[] {0.1, 0.2}). using (existsDoubleItem(doubleCloseTo(0.3, 0.01))). shouldReturn (false);
+    testOf (new double[] {0.1, 0.2}). using (everyDoubleItem(doubleBetween(0.0, 1.0))). shouldReturn (true);
+    assertOf (new int[] {1, 7, 3}). using (everyIntItem(intLessThan(5))). shouldFailWith ("expected: (< 5) but was: Item [1] 7 doesn't match < 5\n" +
+            "\t+ expected: < 5 but was: <7>");
+    assertOf (new double[] {0.5, 1.5}). using (everyDoubleItem(doubleBetween(0.0, 1.0))). shouldFailWith ("expected: (> 0.0 and < 1.0) but was: Item [1] 1.5 doesn't match > 0.0 and < 1.0\n" +
+            "\t+ expected: > 0.0 and < 1.0 but was: <1.5>");
+
 }}
@@ -1,6 +1,7 @@
 package fluent.validation.tests;
 
 import fluent.validation.Assert;
+import fluent.validation.Check;
 import fluent.validation.UncheckedInterruptedException;
 import org.testng.annotations.Test;
 
@@ -13,6 +14,8 @@ import static fluent.validation.CollectionChecks.*;
 import static fluent.validation.Items.items;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
 
 public class BlockingQueueTest {
 
@@ -52,4 +55,47 @@ public class BlockingQueueTest {
         Assert.that(queue, blockingQueue(equalTo(items("A")), Duration.ofMillis(10)));
     }
 
+    @Test
+    public void asynchronousBatchTest() {
+        BlockingQueue<String> queue = new LinkedBlockingQueue<>();
+        new Thread(() -> {
+            try {
+                Thread.sleep(200);
+                queue.add("A");
+                queue.add("B");
+                Thread.sleep(200);
+                queue.add("C");
+            } catch (InterruptedException e) {
+                e.printStackTrace();
+            }
+        }).start();
+        Assert.that(queue, blockingQueueWithin(equalInAnyOrderTo(items("A", "C", "B")), Duration.ofSeconds(1), 2));
+    }
+
+    @Test
+    public void batchTimeoutIsOverallDeadline() {
+        BlockingQueue<String> queue = new LinkedBlockingQueue<>();
+        new Thread(() -> {
+            try {
+                Thread.sleep(300);
+                queue.add("A");
+                Thread.sleep(300);
+                queue.add("B");
+            } catch (InterruptedException e) {
+                e.printStackTrace();
+            }
+        }).start();
+        assertFalse(Check.that(queue, blockingQueueWithin(contains(items("A", "B")), Duration.ofMillis(450))));
+    }
+
+    @Test
+    public void batchCheckDoesNotWaitWhenDecided() {
+        BlockingQueue<String> queue = new LinkedBlockingQueue<>();
+        queue.add("A");
+        queue.add("B");
+        long start = System.nanoTime();
+        assertTrue(Check.that(queue, blockingQueueWithin(startsWith(items("A")), Duration.ofSeconds(5))));
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+    }
+
 }
@@ -0,0 +1,35 @@
+package fluent.validation.tests;
+
+import fluent.validation.utils.Requirements;
+
+import java.nio.CharBuffer;
+
+import static fluent.validation.CharSequenceChecks.*;
+
+public class CharSequenceCheckRequirementsTest extends Requirements {{
+
+    testOf (new StringBuilder("ERROR: disk full")). using (contains("disk")). shouldReturn (true);
+    testOf (new StringBuilder("ERROR: disk full")). using (contains("memory")). shouldReturn (false);
+    testOf (new StringBuilder("ERROR: disk full")). using (startsWith("ERROR")). shouldReturn (true);
+    testOf (new StringBuilder("ERROR: disk full")). using (endsWith("full")). shouldReturn (true);
+    testOf (new StringBuilder("ERROR: disk full")). using (endsWith("disk")). shouldReturn (false);
+    testOf (new StringBuilder("ERROR: disk full")). using (containsCaseInsensitive("DISK")). shouldReturn (true);
+    testOf (new StringBuilder("ERROR: disk full")). using (startsCaseInsensitiveWith("error")). shouldReturn (true);
+    testOf (new StringBuilder("ERROR: disk full")). using (endsCaseInsensitiveWith("Full")). shouldReturn (true);
+    testOf (new StringBuilder("ERROR: disk full")). using (containsAllOf("ERROR", "disk")). shouldReturn (true);
+    testOf (new StringBuilder("ERROR: disk full")). using (containsAnyOf("memory", "network")). shouldReturn (false);
+    testOf (new StringBuilder("ERROR: disk full")). using (contentEqualTo("ERROR: disk full")). shouldReturn (true);
+    testOf (new StringBuilder("ERROR: disk full")). using (contentEqualTo("ERROR")). shouldReturn (false);
+
+    testOf (CharBuffer.wrap("xxERROR: disk fullxx", 2, 18)). using (startsWith("ERROR")). shouldReturn (true);
+    testOf (CharBuffer.wrap("xxERROR: disk fullxx", 2, 18)). using (endsWith("full")). shouldReturn (true);
+    testOf (CharBuffer.wrap("xxERROR: disk fullxx", 2, 18)). using (matchesPattern("^ERROR: (\\w+) full$")). shouldReturn (true);
+    testOf (CharBuffer.wrap("xxERROR: disk fullxx", 2, 18)). using (matchesWith("(?<level>\\w+): (?<device>\\w+)").group("device", "disk")). shouldReturn (true);
+    testOf (CharBuffer.wrap("  padded  ")). using (trim(contentEqualTo("padded"))). shouldReturn (true);
+
+    testOf (new StringBuilder()). using (emptyString()). shouldReturn (true);
+    testOf ((CharSequence) null). using (emptyString()). shouldReturn (true);
+    testOf (new StringBuilder(" ")). using (emptyString()). shouldReturn (false);
+    testOf ((CharSequence) null). using (contains("disk")). shouldReturn (false);
+
+}}
@@ -70,4 +70,9 @@ public class CollectionCheckRequirementsTest extends Requirements {{
         testOf (asList("C", "A", "E", "D")). using (collection(startsInAnyOrderWith(items("A", "C", "D")))). shouldReturn (false);
         testOf (asList("E", "D", "C", "A")). using (collection(startsInAnyOrderWith(items("A", "C", "D")))). shouldReturn (false);
 
+        testOf (asList("A", "C", "D")). using (collection(containsSequence(items("C", "D")))). shouldReturn (true);
+        testOf (asList("A", "C", "E", "D")). using (collection(containsSequence(items("C", "D")))). shouldReturn (false);
+        testOf (asList("C", "C", "D")). using (collection(containsSequence(items("C", "D")))). shouldReturn (true);
+        testOf (asList("C")). using (collection(containsSequence(items("C", "D")))). shouldReturn (false);
+
 }}
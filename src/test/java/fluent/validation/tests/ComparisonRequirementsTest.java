@@ -34,4 +34,24 @@ public class ComparisonRequirementsTest extends Requirements {{
     testOf(10).using(betweenInclusive(8, 9)).shouldReturn(false);
     testOf(10).using(betweenInclusive(11, 12)).shouldReturn(false);
 
+    testOf(10).using(intLessThan(11)).shouldReturn(true);
+    testOf(10).using(intLessThan(10)).shouldReturn(false);
+    testOf(10).using(intEqualOrMoreThan(10)).shouldReturn(true);
+    testOf(10).using(intEqualTo(10)).shouldReturn(true);
+    testOf((Integer) null).using(intEqualTo(10)).shouldReturn(false);
+    testOf(10L).using(longMoreThan(9L)).shouldReturn(true);
+    testOf(10L).using(longEqualOrLessThan(9L)).shouldReturn(false);
+    testOf(10.5).using(doubleLessThan(11.0)).shouldReturn(true);
+    testOf(10.5).using(doubleEqualOrMoreThan(11.0)).shouldReturn(false);
+
+    testOf(10).using(intBetween(8, 11)).shouldReturn(true);
+    testOf(10).using(intBetween(11, 8)).shouldReturn(true);
+    testOf(10).using(intBetween(10, 12)).shouldReturn(false);
+    testOf(10).using(intBetweenInclusive(10, 12)).shouldReturn(true);
+    testOf(10L).using(longBetween(8L, 10L)).shouldReturn(false);
+    testOf(10L).using(longBetweenInclusive(8L, 10L)).shouldReturn(true);
+    testOf(10.0).using(doubleBetween(9.5, 10.5)).shouldReturn(true);
+    testOf(10.0).using(doubleBetweenInclusive(10.5, 10.0)).shouldReturn(true);
+    testOf(Double.NaN).using(doubleBetweenInclusive(0.0, 10.0)).shouldReturn(false);
+
 }}
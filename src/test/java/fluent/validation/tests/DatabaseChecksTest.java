@@ -0,0 +1,384 @@
+package fluent.validation.tests;
+
+import fluent.validation.Assert;
+import fluent.validation.Check;
+import fluent.validation.result.Result;
+import fluent.validation.result.ResultFactory;
+import fluent.validation.result.ResultVisitor;
+import fluent.validation.result.TableInResult;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static fluent.validation.ComparisonChecks.intMoreThan;
+import static fluent.validation.ComparisonChecks.moreThan;
+import static fluent.validation.DatabaseChecks.hasMoreRecords;
+import static fluent.validation.DatabaseChecks.hasNoMoreRecords;
+import static fluent.validation.DatabaseChecks.intColumn;
+import static fluent.validation.DatabaseChecks.lookupInBatches;
+import static fluent.validation.DatabaseChecks.query;
+import static fluent.validation.DatabaseChecks.resultSetEqualInAnyOrderTo;
+import static fluent.validation.DatabaseChecks.resultSetEqualTo;
+import static fluent.validation.DatabaseChecks.resultSetStartsWith;
+import static fluent.validation.DatabaseChecks.sqlCheck;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static fluent.validation.DatabaseChecks.stringColumn;
+import static fluent.validation.BasicChecks.equalTo;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+public class DatabaseChecksTest {
+
+    @Test
+    public void testLabelResolvedOncePerResultSet() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.findColumn("A")).thenReturn(2).thenThrow(new SQLException("Label resolved again"));
+        when(resultSet.getInt(2)).thenReturn(5, 6, 7);
+        Check<ResultSet> check = intColumn("A", moreThan(4));
+        Assert.that(resultSet, check);
+        Assert.that(resultSet, check);
+        Assert.that(resultSet, check);
+    }
+
+    @Test
+    public void testLabelResolvedForNewResultSet() throws SQLException {
+        ResultSet first = mock(ResultSet.class);
+        when(first.findColumn("B")).thenReturn(1);
+        when(first.getString(1)).thenReturn("X");
+        ResultSet second = mock(ResultSet.class);
+        when(second.findColumn("B")).thenReturn(3);
+        when(second.getString(3)).thenReturn("X");
+        Check<ResultSet> check = stringColumn("B", equalTo("X"));
+        Assert.that(first, check);
+        Assert.that(second, check);
+    }
+
+    @Test
+    public void testPrimitiveIntColumn() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.findColumn("A")).thenReturn(1);
+        when(resultSet.getInt(1)).thenReturn(5, 3);
+        Check<ResultSet> check = intColumn("A", intMoreThan(4));
+        assertTrue(Check.that(resultSet, check));
+        assertFalse(Check.that(resultSet, check));
+    }
+
+    @Test
+    public void testPrimitiveIntColumnNull() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getInt(1)).thenReturn(0);
+        when(resultSet.wasNull()).thenReturn(true);
+        assertFalse(Check.that(resultSet, intColumn(1, intMoreThan(-1))));
+    }
+
+    @Test
+    public void testEqualToReferenceResultSet() throws SQLException {
+        assertTrue(Check.that(resultSet("ID", 1, 2, 3), resultSetEqualTo(resultSet("ID", 1, 2, 3))));
+    }
+
+    @Test
+    public void testDifferentValueInReferenceResultSet() throws SQLException {
+        assertFalse(Check.that(resultSet("ID", 1, 5, 3), resultSetEqualTo(resultSet("ID", 1, 2, 3))));
+    }
+
+    @Test
+    public void testMissingRecordInReferenceResultSet() throws SQLException {
+        assertFalse(Check.that(resultSet("ID", 1, 2), resultSetEqualTo(resultSet("ID", 1, 2, 3))));
+    }
+
+    @Test
+    public void testOnlyFirstDifferencesRead() throws SQLException {
+        ResultSet actual = resultSet("ID", 5, 6, 7, 8);
+        ResultSet expected = resultSet("ID", 1, 2, 3, 4);
+        assertFalse(Check.that(actual, resultSetEqualTo(expected, 2)));
+        assertTrue(actual.next());
+        assertEquals(actual.getObject(1), 7);
+    }
+
+    @Test
+    public void testNumbersOfDifferentTypesEqualToReferenceResultSet() throws SQLException {
+        ResultSet actual = resultSet("ID", 1, 2L, new BigDecimal("3.0"), 0.5);
+        ResultSet expected = resultSet("ID", 1L, new BigDecimal("2"), 3, new BigDecimal("0.50"));
+        assertTrue(Check.that(actual, resultSetEqualTo(expected)));
+    }
+
+    @Test
+    public void testBinaryDifferenceRenderedAsHex() throws SQLException {
+        ResultSet actual = resultSet("DATA", (Object) new byte[]{1, (byte) 0xAB});
+        ResultSet expected = resultSet("DATA", (Object) new byte[]{1, (byte) 0xAC});
+        try {
+            Assert.that(actual, resultSetEqualTo(expected));
+            fail("Difference not reported");
+        } catch (AssertionError error) {
+            assertTrue(error.getMessage().contains("<0x01ab>"), error.getMessage());
+            assertTrue(error.getMessage().contains("<0x01ac>"), error.getMessage());
+        }
+    }
+
+    @Test
+    public void testNumericKeysOfDifferentTypesInAnyOrder() throws SQLException {
+        ResultSet actual = resultSet(new String[]{"ID", "NAME"}, new Object[]{2L, "B"}, new Object[]{new BigDecimal("10.00"), "A"});
+        ResultSet expected = resultSet(new String[]{"ID", "NAME"}, new Object[]{10, "A"}, new Object[]{2, "B"});
+        assertTrue(Check.that(actual, resultSetEqualInAnyOrderTo(expected, "ID")));
+    }
+
+    @Test
+    public void testEqualInAnyOrderToReferenceByKey() throws SQLException {
+        ResultSet actual = resultSet(new String[]{"ID", "NAME"}, new Object[]{2, "B"}, new Object[]{1, "A"}, new Object[]{3, "C"});
+        ResultSet expected = resultSet(new String[]{"ID", "NAME"}, new Object[]{1, "A"}, new Object[]{3, "C"}, new Object[]{2, "B"});
+        assertTrue(Check.that(actual, resultSetEqualInAnyOrderTo(expected, "ID")));
+    }
+
+    @Test
+    public void testDifferentValueInAnyOrderByKey() throws SQLException {
+        ResultSet actual = resultSet(new String[]{"ID", "NAME"}, new Object[]{2, "B"}, new Object[]{1, "X"});
+        ResultSet expected = resultSet(new String[]{"ID", "NAME"}, new Object[]{1, "A"}, new Object[]{2, "B"});
+        assertFalse(Check.that(actual, resultSetEqualInAnyOrderTo(expected, "ID")));
+    }
+
+    @Test
+    public void testMissingRecordInAnyOrderByKey() throws SQLException {
+        ResultSet actual = resultSet(new String[]{"ID", "NAME"}, new Object[]{2, "B"});
+        ResultSet expected = resultSet(new String[]{"ID", "NAME"}, new Object[]{1, "A"}, new Object[]{2, "B"});
+        assertFalse(Check.that(actual, resultSetEqualInAnyOrderTo(expected, "ID")));
+    }
+
+    @Test
+    public void testAllDifferentColumnsReportedInAnyOrderByKey() throws SQLException {
+        ResultSet actual = resultSet(new String[]{"ID", "NAME", "CODE"}, new Object[]{new byte[]{1, (byte) 0xAB}, "X", 7});
+        ResultSet expected = resultSet(new String[]{"ID", "NAME", "CODE"}, new Object[]{new byte[]{1, (byte) 0xAB}, "A", 5});
+        try {
+            Assert.that(actual, resultSetEqualInAnyOrderTo(expected, "ID"));
+            fail("Difference not reported");
+        } catch (AssertionError error) {
+            assertTrue(error.getMessage().contains("record [0x01ab] NAME"), error.getMessage());
+            assertTrue(error.getMessage().contains("record [0x01ab] CODE"), error.getMessage());
+        }
+    }
+
+    @Test
+    public void testDuplicateKeysInAnyOrder() throws SQLException {
+        ResultSet actual = resultSet(new String[]{"ID", "NAME"}, new Object[]{1, "B"}, new Object[]{1, "B"});
+        ResultSet expected = resultSet(new String[]{"ID", "NAME"}, new Object[]{1, "B"}, new Object[]{1, "B"});
+        assertTrue(Check.that(actual, resultSetEqualInAnyOrderTo(expected, "ID")));
+    }
+
+    @Test
+    public void testQueryCancelledWhenDecidedEarly() throws SQLException {
+        List<String> calls = new ArrayList<>();
+        Connection connection = connection("SELECT ID FROM T", resultSet("ID", 1, 2, 3), calls);
+        Check<Connection> check = query("SELECT ID FROM T", resultSetStartsWith(singletonList(sqlCheck("ID", record -> record.getObject(1), equalTo(1))))).withFetchSize(100);
+        assertTrue(Check.that(connection, check));
+        assertEquals(calls, asList("setFetchSize", "executeQuery", "cancel", "close"));
+    }
+
+    @Test
+    public void testQueryNotCancelledWhenExhausted() throws SQLException {
+        List<String> calls = new ArrayList<>();
+        Connection connection = connection("SELECT ID FROM T WHERE ID = ?", resultSet("ID", 1), calls);
+        Check<Connection> check = query("SELECT ID FROM T WHERE ID = ?", resultSetEqualTo(singletonList(sqlCheck("ID", record -> record.getObject(1), equalTo(1))))).withParameters(1);
+        Check.that(connection, check);
+        assertEquals(calls, asList("setObject", "executeQuery", "close"));
+    }
+
+    @Test
+    public void testQueryNotCancelledWhenEmptyResultRead() throws SQLException {
+        List<String> calls = new ArrayList<>();
+        Connection connection = connection("SELECT ID FROM T", resultSet("ID"), calls);
+        assertTrue(Check.that(connection, query("SELECT ID FROM T", resultSetEqualTo(resultSet("ID")))));
+        assertEquals(calls, asList("executeQuery", "close"));
+    }
+
+    @Test
+    public void testFailedCancellationDoesNotChangeResult() throws SQLException {
+        Result result = queryWithFailedCancellation(new SQLException("Connection reset"));
+        assertTrue(result.passed());
+        assertEquals(softResults(result), 1);
+    }
+
+    @Test
+    public void testUnsupportedCancellationIgnored() throws SQLException {
+        Result result = queryWithFailedCancellation(new SQLFeatureNotSupportedException("Cancel not supported"));
+        assertTrue(result.passed());
+        assertEquals(softResults(result), 0);
+    }
+
+    private static Result queryWithFailedCancellation(SQLException failure) throws SQLException {
+        ResultSet resultSet = resultSet("ID", 1, 2);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        doThrow(failure).when(statement).cancel();
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement("SELECT ID FROM T", ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)).thenReturn(statement);
+        return query("SELECT ID FROM T", resultSetStartsWith(singletonList(sqlCheck("ID", record -> record.getObject(1), equalTo(1))))).evaluate(connection, ResultFactory.DEFAULT);
+    }
+
+    private static int softResults(Result result) {
+        int[] count = {0};
+        result.accept(new ResultVisitor() {
+            @Override public void actual(Object actualValue, Result result) { result.accept(this); }
+            @Override public void expectation(Object expectation, boolean value) { }
+            @Override public void transformation(Object name, Result result, boolean value) { result.accept(this); }
+            @Override public void aggregation(Object prefix, String glue, List<Result> items, boolean value) { items.forEach(item -> item.accept(this)); }
+            @Override public void tableAggregation(Object prefix, List<Check<?>> checks, List<?> items, List<TableInResult.Cell> results, boolean value) { }
+            @Override public void error(Throwable error) { }
+            @Override public void invert(Result result) { }
+            @Override public void soft(Result result) { count[0]++; }
+        });
+        return count[0];
+    }
+
+    @Test
+    public void testFailedRecordSnapshotInAnyOrder() throws SQLException {
+        ResultSet resultSet = resultSet("ID", 1, 5);
+        List<Check<? super ResultSet>> checks = asList(sqlCheck("ID", record -> record.getObject(1), equalTo(1)), sqlCheck("ID", record -> record.getObject(1), equalTo(2)));
+        List<String> records = new ArrayList<>();
+        resultSetEqualInAnyOrderTo(checks, 10, "ID").evaluate(resultSet, ResultFactory.DEFAULT).accept(new ResultVisitor() {
+            @Override public void actual(Object actualValue, Result result) { visit(result); }
+            @Override public void expectation(Object expectation, boolean value) { }
+            @Override public void transformation(Object name, Result result, boolean value) { }
+            @Override public void aggregation(Object prefix, String glue, List<Result> items, boolean value) { }
+            @Override public void tableAggregation(Object prefix, List<Check<?>> checks, List<?> items, List<TableInResult.Cell> results, boolean value) {
+                items.forEach(item -> records.add(item.toString()));
+            }
+            @Override public void error(Throwable error) { }
+            @Override public void invert(Result result) { }
+            @Override public void soft(Result result) { }
+        });
+        assertEquals(records, asList("record 1", "record 2 {ID=5}"));
+    }
+
+    @Test
+    public void testLookupInBatchesUsingInList() throws SQLException {
+        Connection connection = mock(Connection.class);
+        ResultSet firstResult = resultSet(new String[]{"ID", "NAME"}, new Object[]{2L, "B"}, new Object[]{1L, "A"});
+        PreparedStatement first = mock(PreparedStatement.class);
+        when(first.executeQuery()).thenReturn(firstResult);
+        ResultSet secondResult = resultSet(new String[]{"ID", "NAME"}, new Object[]{3L, "C"});
+        PreparedStatement second = mock(PreparedStatement.class);
+        when(second.executeQuery()).thenReturn(secondResult);
+        when(connection.prepareStatement("SELECT ID, NAME FROM T WHERE ID IN (?, ?)")).thenReturn(first);
+        when(connection.prepareStatement("SELECT ID, NAME FROM T WHERE ID IN (?)")).thenReturn(second);
+        Map<Integer, Check<? super ResultSet>> checks = new LinkedHashMap<>();
+        checks.putAll(singletonMap(1, names("A")));
+        checks.putAll(singletonMap(2, names("B")));
+        checks.putAll(singletonMap(3, names("C")));
+        assertTrue(Check.that(connection, lookupInBatches("SELECT ID, NAME FROM T WHERE ID IN (?)", "ID", 2, checks)));
+    }
+
+    @Test
+    public void testLookupInBatchesWithMissingKey() throws SQLException {
+        Connection connection = mock(Connection.class);
+        ResultSet resultSet = resultSet("ID", 1);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(connection.prepareStatement("SELECT ID FROM T WHERE ID IN (?, ?)")).thenReturn(statement);
+        assertFalse(Check.that(connection, lookupInBatches("SELECT ID FROM T WHERE ID IN (?)", "ID", 10, asList(1, 2))));
+    }
+
+    @Test
+    public void testLookupInBatchesProvidesRecordsOfKeyAsResultSet() throws SQLException {
+        Connection connection = mock(Connection.class);
+        ResultSet resultSet = resultSet(new String[]{"ID", "NAME"}, new Object[]{1L, "A"}, new Object[]{2L, "B"}, new Object[]{1L, "C"});
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(connection.prepareStatement("SELECT ID, NAME FROM T WHERE ID IN (?, ?)")).thenReturn(statement);
+        Map<Integer, Check<? super ResultSet>> checks = new LinkedHashMap<>();
+        checks.putAll(singletonMap(1, names("A", "C")));
+        checks.putAll(singletonMap(2, hasMoreRecords().and(hasNoMoreRecords())));
+        assertTrue(Check.that(connection, lookupInBatches("SELECT ID, NAME FROM T WHERE ID IN (?)", "ID", 10, checks)));
+    }
+
+    @Test
+    public void testLookupInBatchesMatchesNumericKeysByValue() throws SQLException {
+        Connection connection = mock(Connection.class);
+        ResultSet resultSet = resultSet("ID", new BigDecimal("5.00"), 7L);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(connection.prepareStatement("SELECT ID FROM T WHERE ID IN (?, ?)")).thenReturn(statement);
+        assertTrue(Check.that(connection, lookupInBatches("SELECT ID FROM T WHERE ID IN (?)", "ID", 10, asList(new BigDecimal("5.0"), 7))));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testLookupInBatchesRequiresInList() {
+        Check.that(null, lookupInBatches("SELECT ID FROM T WHERE ID = ?", "ID", 10, asList(1, 2)));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testLookupInBatchesRejectsOtherParameters() {
+        Check.that(null, lookupInBatches("SELECT ID FROM T WHERE ID IN (?) AND TYPE = ?", "ID", 10, asList(1, 2)));
+    }
+
+    private static Check<ResultSet> names(String... names) {
+        List<Check<? super ResultSet>> records = new ArrayList<>();
+        for(String name : names) {
+            records.add(stringColumn("NAME", equalTo(name)));
+        }
+        return resultSetStartsWith(records).and(hasNoMoreRecords());
+    }
+
+    private static Connection connection(String sql, ResultSet resultSet, List<String> calls) throws SQLException {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        PreparedStatement recorded = (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(), new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+            calls.add(method.getName());
+            return method.invoke(statement, args);
+        });
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)).thenReturn(recorded);
+        return connection;
+    }
+
+    static ResultSet resultSet(String label, Object... values) throws SQLException {
+        Object[][] rows = new Object[values.length][];
+        for(int i = 0; i < values.length; i++) {
+            rows[i] = new Object[]{values[i]};
+        }
+        return resultSet(new String[]{label}, rows);
+    }
+
+    static ResultSet resultSet(String[] labels, Object[]... rows) throws SQLException {
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(labels.length);
+        for(int column = 1; column <= labels.length; column++) {
+            when(metaData.getColumnLabel(column)).thenReturn(labels[column - 1]);
+        }
+        int[] cursor = {0};
+        Object[] last = {null};
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "next": return ++cursor[0] <= rows.length;
+                case "getRow": return cursor[0] <= rows.length ? cursor[0] : 0;
+                case "getMetaData": return metaData;
+                case "findColumn": return asList(labels).indexOf(args[0]) + 1;
+                case "wasNull": return last[0] == null;
+                case "getObject": return last[0] = rows[cursor[0] - 1][(int) args[0] - 1];
+                case "getInt": return (last[0] = rows[cursor[0] - 1][(int) args[0] - 1]) == null ? 0 : ((Number) last[0]).intValue();
+                case "getLong": return (last[0] = rows[cursor[0] - 1][(int) args[0] - 1]) == null ? 0L : ((Number) last[0]).longValue();
+                case "getDouble": return (last[0] = rows[cursor[0] - 1][(int) args[0] - 1]) == null ? 0.0 : ((Number) last[0]).doubleValue();
+                case "hashCode": return System.identityHashCode(proxy);
+                case "equals": return proxy == args[0];
+                default: return null;
+            }
+        });
+    }
+
+}
@@ -32,6 +32,7 @@ package fluent.validation.tests;
 import fluent.validation.utils.Requirements;
 
 import java.time.*;
+import java.time.format.DateTimeFormatter;
 
 import static fluent.validation.DateTimeChecks.*;
 import static java.time.DayOfWeek.*;
@@ -57,6 +58,15 @@ public class DateTimeCheckRequirementsTest extends Requirements {{
     testOf (localDateTime)       . using  (localDateTimeWith().dayOfWeek(FRIDAY)) . shouldReturn(false);
 
     testOf("2021/04/17 21:45:18.012").using(parseLocalDateTime("yyyy/MM/dd HH:mm:ss.SSS", localDateTimeWith().year(2021).month(4).day(17))).shouldReturn(true);
+    testOf("2021/04/1X 21:45:18.012").using(parseLocalDateTime("yyyy/MM/dd HH:mm:ss.SSS", localDateTimeWith().year(2021))).shouldReturn(false);
+    testOf("2021/04/32 21:45:18.012").using(parseLocalDateTime("yyyy/MM/dd HH:mm:ss.SSS", localDateTimeWith().year(2021))).shouldReturn(false);
+    testOf((String) null).using(parseLocalDateTime(localDateTimeWith().year(2021))).shouldReturn(false);
+    assertOf("2021-04-17T21:45:18Z").using(parseLocalDateTime(localDateTimeWith().year(2021))).shouldFailWith(
+            "expected: parse using " + DateTimeFormatter.ISO_LOCAL_DATE_TIME + "  has thrown java.time.format.DateTimeParseException: Text '2021-04-17T21:45:18Z' could not be parsed, unparsed text found at index 19");
+    assertOf("2021/04/1X 21:45:18.012").using(parseLocalDateTime("yyyy/MM/dd HH:mm:ss.SSS", localDateTimeWith().year(2021))).shouldFailWith(
+            "expected: parse using " + DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm:ss.SSS") + "  has thrown java.time.format.DateTimeParseException: Text '2021/04/1X 21:45:18.012' could not be parsed at index 8");
+    assertOf("2021/04/32 21:45:18.012").using(parseLocalDateTime("yyyy/MM/dd HH:mm:ss.SSS", localDateTimeWith().year(2021))).shouldFailWith(
+            "expected: parse using " + DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm:ss.SSS") + "  has thrown java.time.format.DateTimeParseException: Text '2021/04/32 21:45:18.012' could not be parsed: Invalid value for DayOfMonth (valid values 1 - 28/31): 32");
 
     ZonedDateTime zonedDateTime = ZonedDateTime.of(2021, 4, 17, 21, 45, 18, 10324, ZoneId.systemDefault());
     testOf ((ZonedDateTime) null). using  (zonedDateTimeWith().year(2021))   . shouldReturn(false);
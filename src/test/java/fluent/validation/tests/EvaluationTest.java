@@ -0,0 +1,162 @@
+package fluent.validation.tests;
+
+import fluent.validation.Check;
+import fluent.validation.Evaluation;
+import fluent.validation.result.Result;
+import fluent.validation.result.ResultFactory;
+import fluent.validation.result.ResultVisitor;
+import fluent.validation.result.TableInResult;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static fluent.validation.BasicChecks.check;
+import static fluent.validation.BasicChecks.is;
+import static fluent.validation.BasicChecks.oneOf;
+import static fluent.validation.CollectionChecks.*;
+import static fluent.validation.Items.items;
+import static fluent.validation.Items.itemsMatching;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class EvaluationTest {
+
+    @Test
+    public void testContainsDecidedOnLastMatch() {
+        Evaluation<String> evaluation = contains(items("A", "C")).evaluation(ResultFactory.DEFAULT);
+        assertFalse(evaluation.feed("A"));
+        assertFalse(evaluation.feed("B"));
+        assertTrue(evaluation.feed("C"));
+        assertTrue(evaluation.decided());
+        assertTrue(evaluation.result().passed());
+    }
+
+    @Test
+    public void testStartsWithDecidedOnFirstMismatch() {
+        Evaluation<String> evaluation = startsWith(items("A", "C")).evaluation(ResultFactory.DEFAULT);
+        assertFalse(evaluation.feed("A"));
+        assertTrue(evaluation.feed("B"));
+        assertTrue(evaluation.feed("C"));
+        assertTrue(evaluation.result().failed());
+    }
+
+    @Test
+    public void testEqualToWaitsForEndOfSequence() {
+        Evaluation<String> evaluation = equalTo(items("A", "B")).evaluation(ResultFactory.DEFAULT);
+        evaluation.feed("A");
+        assertFalse(evaluation.feed("B"));
+        assertTrue(evaluation.result().passed());
+    }
+
+    @Test
+    public void testEqualToFailsOnExtraItem() {
+        Evaluation<String> evaluation = equalTo(items("A", "B")).evaluation(ResultFactory.DEFAULT);
+        evaluation.feed("A");
+        evaluation.feed("B");
+        assertTrue(evaluation.feed("C"));
+        assertTrue(evaluation.result().failed());
+    }
+
+    @Test
+    public void testUnfinishedSequence() {
+        Evaluation<String> evaluation = contains(items("A", "C")).evaluation(ResultFactory.DEFAULT);
+        evaluation.feed("A");
+        assertTrue(evaluation.result().failed());
+    }
+
+    @Test
+    public void testEveryItemDecidedOnFirstMismatch() {
+        Evaluation<String> evaluation = everyItem(is("A")).evaluation(ResultFactory.DEFAULT);
+        assertFalse(evaluation.feed("A"));
+        assertTrue(evaluation.feed("B"));
+        assertTrue(evaluation.result().failed());
+    }
+
+    @Test
+    public void testExistsItemDecidedOnFirstMatch() {
+        Evaluation<String> evaluation = existsItem(is("B")).evaluation(ResultFactory.DEFAULT);
+        assertFalse(evaluation.feed("A"));
+        assertTrue(evaluation.feed("B"));
+        assertTrue(evaluation.result().passed());
+    }
+
+    @Test
+    public void testContainsSequence() {
+        Evaluation<String> evaluation = containsSequence(items("A", "A", "B")).evaluation(ResultFactory.DEFAULT);
+        assertFalse(evaluation.feed("A"));
+        assertFalse(evaluation.feed("A"));
+        assertFalse(evaluation.feed("A"));
+        assertTrue(evaluation.feed("B"));
+        assertTrue(evaluation.result().passed());
+    }
+
+    @Test
+    public void testEqualInAnyOrderWaitsForEndOfSequence() {
+        Evaluation<String> evaluation = equalInAnyOrderTo(items("A", "B")).evaluation(ResultFactory.DEFAULT);
+        evaluation.feed("B");
+        assertFalse(evaluation.feed("A"));
+        assertTrue(evaluation.feed("C"));
+        assertTrue(evaluation.result().failed());
+    }
+
+    @Test
+    public void testContainsInAnyOrderDecidedWhenAllChecksSatisfied() {
+        Evaluation<String> evaluation = containsInAnyOrder(items("A", "B")).evaluation(ResultFactory.DEFAULT);
+        assertFalse(evaluation.feed("B"));
+        assertFalse(evaluation.feed("C"));
+        assertTrue(evaluation.feed("A"));
+        assertTrue(evaluation.result().passed());
+    }
+
+    @Test
+    public void testContainsInAnyOrderAfterManyUnpairedItems() {
+        Evaluation<String> evaluation = equalInAnyOrderTo(itemsMatching(check(item -> !item.equals("Z"), "not Z"), is("X"))).evaluation(ResultFactory.DEFAULT);
+        for(int i = 0; i < 1000; i++) {
+            assertFalse(evaluation.feed("Y" + i));
+        }
+        assertTrue(evaluation.feed("X"));
+        assertTrue(evaluation.result().failed());
+        evaluation = containsInAnyOrder(itemsMatching(oneOf("X", "Y"), is("X"))).evaluation(ResultFactory.DEFAULT);
+        assertFalse(evaluation.feed("X"));
+        assertTrue(evaluation.feed("Y"));
+        assertTrue(evaluation.result().passed());
+    }
+
+    @Test
+    public void testDetailRetainedForRecentItemsOnly() {
+        Evaluation<String> evaluation = everyItem(is("A")).evaluation(ResultFactory.DEFAULT, 64);
+        for(int i = 0; i < 1000; i++) {
+            evaluation.feed("A");
+        }
+        assertTrue(evaluation.feed("B"));
+        List<Result> details = details(evaluation.result());
+        assertEquals(details.size(), 64);
+        assertTrue(details.get(63).failed());
+    }
+
+    @Test
+    public void testDetailRetainedForAllItemsOfIterator() {
+        List<String> items = new ArrayList<>(Collections.nCopies(1000, "A"));
+        items.add("B");
+        assertEquals(details(everyItem(is("A")).evaluate(items.iterator(), ResultFactory.DEFAULT)).size(), 1001);
+    }
+
+    private static List<Result> details(Result result) {
+        List<Result> details = new ArrayList<>();
+        result.accept(new ResultVisitor() {
+            @Override public void actual(Object actualValue, Result result) { result.accept(this); }
+            @Override public void expectation(Object expectation, boolean value) { }
+            @Override public void transformation(Object name, Result result, boolean value) { }
+            @Override public void aggregation(Object prefix, String glue, List<Result> items, boolean value) { details.addAll(items); }
+            @Override public void tableAggregation(Object prefix, List<Check<?>> checks, List<?> items, List<TableInResult.Cell> results, boolean value) { }
+            @Override public void error(Throwable error) { }
+            @Override public void invert(Result result) { }
+            @Override public void soft(Result result) { }
+        });
+        return details;
+    }
+
+}
@@ -0,0 +1,100 @@
+package fluent.validation.tests;
+
+import fluent.validation.Check;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+
+import static fluent.validation.BasicChecks.is;
+import static fluent.validation.CollectionChecks.*;
+import static fluent.validation.ComparisonChecks.moreThan;
+import static fluent.validation.FileChecks.*;
+import static fluent.validation.Items.items;
+import static fluent.validation.XmlChecks.matchesXPath;
+import static fluent.validation.XmlChecks.loadXml;
+import static java.util.Arrays.asList;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class FileChecksTest {
+
+    private static final String CONTENT = "id,name,note\r\n1,Alice,\"said \"\"hi\"\"\"\r\n2,Bob,\"multi\nline, with comma\"\r\n";
+
+    private interface FileTest {
+        void run(String file);
+    }
+
+    private static void withFile(FileTest test) throws IOException {
+        Path file = Files.createTempFile("content", ".csv");
+        try {
+            Files.write(file, CONTENT.getBytes(StandardCharsets.UTF_8));
+            test.run(file.toString());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void testSizeAndChecksum() throws IOException {
+        withFile(file -> {
+            CRC32 crc = new CRC32();
+            crc.update(CONTENT.getBytes(StandardCharsets.UTF_8));
+            assertTrue(Check.that(file, fileSize(is((long) CONTENT.length()))));
+            assertTrue(Check.that(file, fileCrc32(is(crc.getValue()))));
+            assertFalse(Check.that(file, fileSize(moreThan(1000L))));
+        });
+    }
+
+    @Test
+    public void testContains() throws IOException {
+        withFile(file -> {
+            assertTrue(Check.that(file, fileContains("Bob")));
+            assertTrue(Check.that(file, fileContains(new byte[] {'\r', '\n', '2'})));
+            assertFalse(Check.that(file, fileContains("Carol")));
+        });
+    }
+
+    @Test
+    public void testLines() throws IOException {
+        withFile(file -> {
+            assertTrue(Check.that(file, fileLines(startsWith(items("id,name,note", "1,Alice,\"said \"\"hi\"\"\"", "2,Bob,\"multi")))));
+            assertTrue(Check.that(file, fileLines(existsItem(is("line, with comma\"")))));
+        });
+    }
+
+    @Test
+    public void testCsvRecords() throws IOException {
+        withFile(file -> {
+            assertTrue(Check.that(file, csvFile(equalTo(items(
+                    asList("id", "name", "note"),
+                    asList("1", "Alice", "said \"hi\""),
+                    asList("2", "Bob", "multi\nline, with comma")
+            )))));
+            assertFalse(Check.that(file, csvFile(everyItem(hasSize(2)))));
+        });
+    }
+
+    @Test
+    public void testMissingFileIsError() throws IOException {
+        withFile(file -> {
+            assertFalse(Check.that(file + ".missing", fileSize(is(0L))));
+        });
+    }
+
+    @Test
+    public void testXml() throws IOException {
+        Path xml = Files.createTempFile("content", ".xml");
+        try {
+            Files.write(xml, asList("<a><b>text</b></a>"));
+            assertTrue(Check.that(xml.toString(), xmlFile(matchesXPath("/a/b = 'text'"))));
+            assertTrue(Check.that(xml.toString(), loadXml(matchesXPath("/a/b = 'text'"))));
+        } finally {
+            Files.delete(xml);
+        }
+    }
+
+}
@@ -0,0 +1,105 @@
+package fluent.validation.tests;
+
+import fluent.validation.Evaluation;
+import fluent.validation.Multiplexer;
+import fluent.validation.Transformation;
+import fluent.validation.result.ResultFactory;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static fluent.validation.BasicChecks.is;
+import static fluent.validation.CollectionChecks.*;
+import static fluent.validation.Items.items;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class MultiplexerTest {
+
+    @Test
+    public void testIndependentResults() {
+        Multiplexer<String> multiplexer = new Multiplexer<>();
+        Evaluation<String> contains = multiplexer.register(contains(items("A", "C")));
+        Evaluation<String> startsWith = multiplexer.register(startsWith(items("B")));
+        Evaluation<String> every = multiplexer.register(everyItem(is("A")));
+        multiplexer.feed("A");
+        multiplexer.feed("B");
+        multiplexer.feed("C");
+        assertTrue(contains.result().passed());
+        assertTrue(startsWith.result().failed());
+        assertTrue(every.result().failed());
+        assertTrue(multiplexer.result().failed());
+    }
+
+    @Test
+    public void testRecentDetailOfLongStream() {
+        Multiplexer<String> multiplexer = new Multiplexer<>(ResultFactory.DEFAULT, 2);
+        Evaluation<String> inAnyOrder = multiplexer.register(containsInAnyOrder(items("B", "A")));
+        Evaluation<String> every = multiplexer.register(everyItem(is("C")));
+        for(int i = 0; i < 1000; i++) {
+            multiplexer.feed("C");
+        }
+        multiplexer.feed("A");
+        multiplexer.feed("B");
+        assertTrue(multiplexer.decided());
+        assertTrue(inAnyOrder.result().passed());
+        assertTrue(every.result().failed());
+    }
+
+    @Test
+    public void testDecidedWhenAllChecksDecided() {
+        Multiplexer<String> multiplexer = new Multiplexer<>();
+        multiplexer.register(startsWith(items("A")));
+        multiplexer.register(existsItem(is("B")));
+        assertFalse(multiplexer.feed("A"));
+        assertTrue(multiplexer.feed("B"));
+        assertTrue(multiplexer.decided());
+        assertTrue(multiplexer.result().passed());
+    }
+
+    @Test
+    public void testSharedTransformationAppliedOncePerItem() {
+        AtomicInteger calls = new AtomicInteger();
+        Transformation<String, Integer> length = s -> {
+            calls.incrementAndGet();
+            return s.length();
+        };
+        Multiplexer<String> multiplexer = new Multiplexer<>();
+        Evaluation<String> first = multiplexer.register(length, existsItem(is(2)));
+        Evaluation<String> second = multiplexer.register(length, everyItem(is(1)));
+        multiplexer.feed("A");
+        multiplexer.feed("BB");
+        multiplexer.feed("C");
+        assertEquals(calls.get(), 2);
+        assertTrue(first.result().passed());
+        assertTrue(second.result().failed());
+    }
+
+    @Test
+    public void testTransformationErrorDecidesOnlyItsChecks() {
+        Transformation<String, Integer> parse = Integer::parseInt;
+        Multiplexer<String> multiplexer = new Multiplexer<>();
+        Evaluation<String> parsed = multiplexer.register(parse, everyItem(is(1)));
+        Evaluation<String> raw = multiplexer.register(contains(items("1", "X")));
+        multiplexer.feed("1");
+        multiplexer.feed("X");
+        assertTrue(parsed.decided());
+        assertTrue(parsed.result().failed());
+        assertTrue(raw.result().passed());
+    }
+
+    @Test
+    public void testMutableItemTransformedOnEveryFeed() {
+        StringBuilder item = new StringBuilder("A");
+        Transformation<StringBuilder, Integer> length = StringBuilder::length;
+        Multiplexer<StringBuilder> multiplexer = new Multiplexer<>();
+        Evaluation<StringBuilder> first = multiplexer.register(length, existsItem(is(2)));
+        Evaluation<StringBuilder> second = multiplexer.register(length, everyItem(is(1)));
+        multiplexer.feed(item);
+        multiplexer.feed(item.append("B"));
+        assertTrue(first.result().passed());
+        assertTrue(second.result().failed());
+    }
+
+}
@@ -0,0 +1,61 @@
+package fluent.validation.tests;
+
+import fluent.validation.utils.Requirements;
+
+import static fluent.validation.BasicChecks.equalTo;
+import static fluent.validation.NumericArrayChecks.*;
+
+public class NumericArrayCheckRequirementsTest extends Requirements {{
+
+    testOf (new int[] {1, 5, 3}). using (intArrayInRange(1, 5)). shouldReturn (true);
+    testOf (new int[] {1, 5, 3}). using (intArrayInRange(5, 1)). shouldReturn (true);
+    testOf (new int[] {1, 6, 3}). using (intArrayInRange(1, 5)). shouldReturn (false);
+    testOf (new int[] {}). using (intArrayInRange(1, 5)). shouldReturn (true);
+    testOf ((int[]) null). using (intArrayInRange(1, 5)). shouldReturn (false);
+    testOf (ramp(3000)). using (intArrayInRange(0, 2999)). shouldReturn (true);
+    testOf (ramp(3000)). using (intArrayInRange(1, 2999)). shouldReturn (false);
+    testOf (ramp(3000)). using (intArrayInRange(0, 2998)). shouldReturn (false);
+    testOf (new long[] {Long.MIN_VALUE, 0L}). using (longArrayInRange(Long.MIN_VALUE, 0L)). shouldReturn (true);
+    testOf (new long[] {Long.MAX_VALUE}). using (longArrayInRange(Long.MIN_VALUE, 0L)). shouldReturn (false);
+    testOf (new double[] {0.5, 1.0}). using (doubleArrayInRange(0.0, 1.0)). shouldReturn (true);
+    testOf (new double[] {0.5, Double.NaN}). using (doubleArrayInRange(0.0, 1.0)). shouldReturn (false);
+
+    testOf (new int[] {1, 1, 2}). using (intArrayAscending()). shouldReturn (true);
+    testOf (new int[] {1, 1, 2}). using (intArrayStrictlyAscending()). shouldReturn (false);
+    testOf (new int[] {3, 2, 2}). using (intArrayDescending()). shouldReturn (true);
+    testOf (new int[] {3, 2, 1}). using (intArrayStrictlyDescending()). shouldReturn (true);
+    testOf (new int[] {Integer.MIN_VALUE, Integer.MAX_VALUE}). using (intArrayStrictlyAscending()). shouldReturn (true);
+    testOf (new long[] {Long.MAX_VALUE, Long.MIN_VALUE}). using (longArrayAscending()). shouldReturn (false);
+    testOf (new long[] {Long.MAX_VALUE, Long.MIN_VALUE}). using (longArrayStrictlyDescending()). shouldReturn (true);
+    testOf (new double[] {0.1, 0.2, 0.2}). using (doubleArrayAscending()). shouldReturn (true);
+    testOf (new double[] {0.1, 0.2, 0.2}). using (doubleArrayStrictlyAscending()). shouldReturn (false);
+    testOf (new double[] {0.3, Double.NaN, 0.1}). using (doubleArrayDescending()). shouldReturn (false);
+    testOf (new double[] {}). using (doubleArrayStrictlyDescending()). shouldReturn (true);
+
+    testOf (new double[] {0.1 + 0.2, 1.0 / 3}). using (doubleArrayCloseTo(new double[] {0.3, 1 - 2.0 / 3}, 1e-9)). shouldReturn (true);
+    testOf (new double[] {0.3}). using (doubleArrayCloseTo(new double[] {0.3, 0.3}, 1e-9)). shouldReturn (false);
+    testOf (new double[] {0.3, 0.3}). using (doubleArrayCloseTo(new double[] {0.3}, 1e-9)). shouldReturn (false);
+
+    testOf (new int[] {Integer.MAX_VALUE, Integer.MAX_VALUE}). using (intArraySum(equalTo(2L * Integer.MAX_VALUE))). shouldReturn (true);
+    testOf (new long[] {1L, 2L, 3L}). using (longArraySum(equalTo(6L))). shouldReturn (true);
+    testOf (new long[] {Long.MAX_VALUE, 1L}). using (longArraySum(equalTo(Long.MIN_VALUE))). shouldReturn (false);
+    testOf (new double[] {0.1, 0.2, 0.3, 0.4, 0.5}). using (doubleArraySumCloseTo(1.5, 1e-9)). shouldReturn (true);
+    testOf (new double[] {0.1, 0.2, 0.3, 0.4, 0.5}). using (doubleArraySumCloseTo(1.6, 1e-9)). shouldReturn (false);
+    testOf ((double[]) null). using (doubleArraySumCloseTo(0.0, 1e-9)). shouldReturn (false);
+
+    assertOf (new int[] {1, 6, 3}). using (intArrayInRange(1, 5)).
+            shouldFailWith ("expected: every Item >= 1 and <= 5 but was: <Item [1] 6>");
+    assertOf (new long[] {1L, 3L, 2L}). using (longArrayAscending()).
+            shouldFailWith ("expected: ascending Items but was: <Item [2] 2 after 3>");
+    assertOf (new double[] {0.3}). using (doubleArrayCloseTo(new double[] {0.3, 0.5}, 1e-9)).
+            shouldFailWith ("expected: 2 Items ±1.0E-9 of expected values but was: <Item [1] missing, expected 0.5>");
+
+}
+
+    private static int[] ramp(int length) {
+        int[] array = new int[length];
+        for(int i = 0; i < length; i++) array[i] = i;
+        return array;
+    }
+
+}
@@ -31,6 +31,8 @@ package fluent.validation.tests;
 
 import fluent.validation.utils.Requirements;
 
+import java.math.BigDecimal;
+
 import static fluent.validation.Checks.*;
 
 public class NumericCheckRequirementsTest extends Requirements {{
@@ -39,6 +41,9 @@ public class NumericCheckRequirementsTest extends Requirements {{
     testOf (3.2). using (closeTo(3.0, 0.1)). shouldReturn (false);
     testOf (3.2f). using (closeTo(3.0f, 0.5f)). shouldReturn (true);
     testOf (3.2f). using (closeTo(3.0f, 0.1f)). shouldReturn (false);
+    testOf (3.2). using (doubleCloseTo(3.0, 0.5)). shouldReturn (true);
+    testOf (3.2). using (doubleCloseTo(3.0, 0.1)). shouldReturn (false);
+    testOf (3.2). using (doubleEqualTo(3.2)). shouldReturn (true);
 
     testOf ("5.3"). using (parseDouble(equalTo(5.3))). shouldReturn (true);
     testOf ("-5.3"). using (parseDouble(equalTo(-5.3))). shouldReturn (true);
@@ -67,5 +72,21 @@ public class NumericCheckRequirementsTest extends Requirements {{
     testOf ("5"). using (parseLong(7)). shouldReturn (false);
     testOf ((String) null). using (parseLong(isNull())). shouldReturn (true);
     testOf ((String) null). using (parseLong(5)). shouldReturn (false);
+    testOf ("-9223372036854775808"). using (parseLong(Long.MIN_VALUE)). shouldReturn (true);
+    testOf ("9223372036854775808"). using (parseLong(isNotNull())). shouldReturn (false);
+
+    testOf ("-128"). using (parseByte((byte) -128)). shouldReturn (true);
+    testOf ("128"). using (parseByte(isNotNull())). shouldReturn (false);
+    testOf ("12x"). using (parseShort(isNotNull())). shouldReturn (false);
+    testOf ("1.50"). using (parseBigDecimal(equalTo(new BigDecimal("1.5")))). shouldReturn (true);
+    testOf ("1.5.0"). using (parseBigDecimal(isNotNull())). shouldReturn (false);
+    testOf ("-12345678901234567890"). using (parseBigInt(isNotNull())). shouldReturn (true);
+    testOf ("1e3"). using (parseBigInt(isNotNull())). shouldReturn (false);
+
+    assertOf (""). using (parseInt(5)). shouldFailWith ("expected: parseInt  has thrown java.lang.NumberFormatException: For input string: \"\"");
+    assertOf (""). using (parseDouble(5.3)). shouldFailWith ("expected: parseDouble  has thrown java.lang.NumberFormatException: empty String");
+    assertOf ("x"). using (parseBigDecimal(isNotNull())). shouldFailWith ("expected: parseBigDecimal  has thrown java.lang.NumberFormatException");
+    assertOf ("x"). using (parseBigInt(isNotNull())). shouldFailWith ("expected: parseBigInt  has thrown java.lang.NumberFormatException: For input string: \"x\"");
+    assertOf ("40000"). using (parseShort(isNotNull())). shouldFailWith ("expected: parseShort  has thrown java.lang.NumberFormatException: Value out of range. Value:\"40000\" Radix:10");
 
 }}
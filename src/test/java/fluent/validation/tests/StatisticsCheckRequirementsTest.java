@@ -0,0 +1,59 @@
+package fluent.validation.tests;
+
+import fluent.validation.utils.Requirements;
+
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+import static fluent.validation.BasicChecks.equalTo;
+import static fluent.validation.CollectionChecks.collection;
+import static fluent.validation.ComparisonChecks.doubleBetween;
+import static fluent.validation.ComparisonChecks.doubleMoreThan;
+import static fluent.validation.NumericChecks.doubleCloseTo;
+import static fluent.validation.StatisticsChecks.*;
+import static java.util.Arrays.asList;
+
+public class StatisticsCheckRequirementsTest extends Requirements {{
+
+    testOf (ramp(1000)). using (doubleArrayStatistics(sampleCount(equalTo(1000L)))). shouldReturn (true);
+    testOf (ramp(1000)). using (doubleArrayStatistics(meanWithin(500.5, 1e-9))). shouldReturn (true);
+    testOf (ramp(1000)). using (doubleArrayStatistics(meanWithin(500, 0.1))). shouldReturn (false);
+    testOf (ramp(1000)). using (doubleArrayStatistics(standardDeviation(doubleCloseTo(Math.sqrt((1000.0 * 1000 - 1) / 12), 1e-9)))). shouldReturn (true);
+    testOf (ramp(1000)). using (doubleArrayStatistics(standardDeviationBelow(250))). shouldReturn (false);
+    testOf (ramp(1000)). using (doubleArrayStatistics(variance(doubleMoreThan(80000)))). shouldReturn (true);
+    testOf (ramp(1000)). using (doubleArrayStatistics(minimum(equalTo(1.0)).and(maximum(equalTo(1000.0))))). shouldReturn (true);
+    testOf (ramp(1000)). using (doubleArrayStatistics(percentile(99, doubleBetween(985, 995)))). shouldReturn (true);
+    testOf (ramp(1000)). using (doubleArrayStatistics(percentile(50, doubleBetween(498, 502)))). shouldReturn (true);
+    testOf (ramp(1000)). using (doubleArrayStatistics(percentileBelow(99, 995))). shouldReturn (true);
+    testOf (ramp(1000)). using (doubleArrayStatistics(percentileBelow(99, 950))). shouldReturn (false);
+    testOf (ramp(1000)). using (doubleArrayStatistics(outlierPercentage(1.5, doubleBetween(13, 14)))). shouldReturn (true);
+    testOf (ramp(1000)). using (doubleArrayStatistics(outliersAtMost(1.5, 10))). shouldReturn (false);
+    testOf (ramp(1000)). using (doubleArrayStatistics(outliersAtMost(2, 0))). shouldReturn (true);
+    testOf (ramp(1000)). using (doubleArrayStatistics(percentageOutside(101, 900, doubleCloseTo(20, 0.5)))). shouldReturn (true);
+    testOf (ramp(10)). using (doubleArrayStatistics(percentageOutside(1, 10, equalTo(0.0)))). shouldReturn (true);
+    testOf (ramp(10)). using (doubleArrayStatistics(percentageOutside(2, 5, doubleCloseTo(60, 1e-9)))). shouldReturn (true);
+    testOf (new double[] {-5, -4, -3}). using (doubleArrayStatistics(percentageOutside(-4, -3, doubleCloseTo(100.0 / 3, 1e-9)))). shouldReturn (true);
+    testOf (new double[] {5, 5, 5, 5}). using (doubleArrayStatistics(outlierPercentage(3, equalTo(0.0)))). shouldReturn (true);
+    testOf (new double[] {5, 5, 5, 5}). using (doubleArrayStatistics(outliersAtMost(3, 1))). shouldReturn (true);
+    testOf (new double[] {5, 5, 5, 5}). using (doubleArrayStatistics(percentageOutside(5, 5, equalTo(0.0)))). shouldReturn (true);
+    testOf (new double[] {1, 2, Double.NaN}). using (doubleArrayStatistics(percentileBelow(50, 3))). shouldReturn (true);
+    testOf (new double[] {1, 2, Double.NaN}). using (doubleArrayStatistics(percentileBelow(100, 3))). shouldReturn (false);
+    testOf (new double[] {}). using (doubleArrayStatistics(meanWithin(0, 1))). shouldReturn (false);
+    testOf ((double[]) null). using (doubleArrayStatistics(meanWithin(0, 1))). shouldReturn (false);
+
+    testOf (new int[] {-3, 0, 3}). using (intArrayStatistics(meanWithin(0, 1e-9).and(percentileBelow(1, -2.9)))). shouldReturn (true);
+    testOf (new long[] {Long.MAX_VALUE, Long.MAX_VALUE}). using (longArrayStatistics(meanWithin(Long.MAX_VALUE, 1))). shouldReturn (true);
+    testOf (asList(1, 2, 3, 4)). using (collection(statistics(meanWithin(2.5, 1e-9)))). shouldReturn (true);
+    testOf (asList(1.5, 2.5)). using (collection(statistics(maximum(equalTo(2.5))))). shouldReturn (true);
+    testOf (DoubleStream.of(ramp(100000)).parallel()). using (doubleStreamStatistics(meanWithin(50000.5, 1e-6).and(percentileBelow(99, 100000)))). shouldReturn (true);
+
+    assertOf (new int[] {1, 2, 3}). using (intArrayStatistics(meanWithin(3, 0.5))).
+            shouldFailWith ("expected: statistics mean <3.0 ±0.5> but was: <2.0>");
+
+}
+
+    private static double[] ramp(int length) {
+        return IntStream.rangeClosed(1, length).asDoubleStream().toArray();
+    }
+
+}
@@ -0,0 +1,43 @@
+package fluent.validation.tests;
+
+import fluent.validation.Check;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static fluent.validation.CollectionChecks.*;
+import static fluent.validation.Items.items;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class StreamCheckTest {
+
+    @Test
+    public void testStreamEqualTo() {
+        assertTrue(Check.that(Stream.of("A", "B", "C"), stream(equalTo(items("A", "B", "C")))));
+        assertFalse(Check.that(Stream.of("A", "B", "C", "D"), stream(equalTo(items("A", "B", "C")))));
+    }
+
+    @Test
+    public void testInfiniteStreamStopsWhenDecided() {
+        AtomicInteger pulled = new AtomicInteger();
+        assertTrue(Check.that(Stream.iterate(0, i -> i + 1).peek(i -> pulled.incrementAndGet()), stream(contains(items(5, 10)))));
+        assertEquals(pulled.get(), 11);
+    }
+
+    @Test
+    public void testStreamIsClosed() {
+        AtomicBoolean closed = new AtomicBoolean();
+        assertTrue(Check.that(Stream.of("A", "B", "C").onClose(() -> closed.set(true)), stream(startsWith(items("A")))));
+        assertTrue(closed.get());
+    }
+
+    @Test
+    public void testErrorInStream() {
+        assertFalse(Check.that(Stream.of("A", "B").map(s -> { throw new IllegalStateException(s); }), stream(contains(items("A")))));
+    }
+
+}
@@ -0,0 +1,69 @@
+package fluent.validation.tests;
+
+import fluent.validation.utils.Requirements;
+
+import java.util.regex.Pattern;
+
+import static fluent.validation.BasicChecks.allOf;
+import static fluent.validation.BasicChecks.anyOf;
+import static fluent.validation.BasicChecks.equalTo;
+import static fluent.validation.BasicChecks.not;
+import static fluent.validation.StringChecks.*;
+import static java.util.Collections.nCopies;
+
+public class StringCheckRequirementsTest extends Requirements {{
+
+    testOf ("ERROR: disk full"). using (contains("disk")). shouldReturn (true);
+    testOf ("ERROR: disk full"). using (contains("memory")). shouldReturn (false);
+    testOf ((String) null). using (contains("disk")). shouldReturn (false);
+
+    testOf ("ERROR: disk full"). using (containsAnyOf("memory", "disk")). shouldReturn (true);
+    testOf ("ERROR: disk full"). using (containsAnyOf("memory", "network")). shouldReturn (false);
+    testOf ("ERROR: disk full"). using (containsAllOf("ERROR", "disk", "full")). shouldReturn (true);
+    testOf ("ERROR: disk full"). using (containsAllOf("ERROR", "memory")). shouldReturn (false);
+    testOf ("she sells"). using (containsAllOf("he", "she", "ells", "s")). shouldReturn (true);
+    testOf ("anything"). using (containsAllOf()). shouldReturn (true);
+    testOf ("anything"). using (containsAnyOf()). shouldReturn (false);
+    testOf ((String) null). using (containsAnyOf("disk")). shouldReturn (false);
+
+    testOf ("ERROR: disk full"). using (anyOf(contains("memory"), contains("disk"))). shouldReturn (true);
+    testOf ("ERROR: disk full"). using (anyOf(contains("memory"), contains("network"), startsWith("ERROR"))). shouldReturn (true);
+    testOf ("ERROR: disk full"). using (allOf(contains("ERROR"), contains("disk"), startsWith("ERROR"), contains("full"))). shouldReturn (true);
+    testOf ("ERROR: disk full"). using (allOf(contains("ERROR"), contains("memory"))). shouldReturn (false);
+
+    testOf ("ERROR: disk full"). using (startsWith("ERROR")). shouldReturn (true);
+    testOf ("ERROR: disk full"). using (endsWith("full")). shouldReturn (true);
+    testOf ("ERROR: disk full"). using (endsWith("ERROR")). shouldReturn (false);
+
+    testOf ("ERROR: disk full"). using (startsCaseInsensitiveWith("error")). shouldReturn (true);
+    testOf ("ERROR: disk full"). using (startsCaseInsensitiveWith("disk")). shouldReturn (false);
+    testOf ("ERROR: disk full"). using (endsCaseInsensitiveWith("FULL")). shouldReturn (true);
+    testOf ("ERROR: disk full"). using (endsCaseInsensitiveWith("error")). shouldReturn (false);
+    testOf ("ERROR: disk full"). using (containsCaseInsensitive("Disk Full")). shouldReturn (true);
+    testOf ("TITLE: İSTANBUL"). using (containsCaseInsensitive("title")). shouldReturn (true);
+    testOf ("full"). using (containsCaseInsensitive("disk full")). shouldReturn (false);
+    testOf (String.join("", nCopies(20, "abcab")) + "Needle-X"). using (containsCaseInsensitive("needle-x")). shouldReturn (true);
+    testOf (String.join("", nCopies(20, "needl-x"))). using (containsCaseInsensitive("needle-x")). shouldReturn (false);
+
+    testOf ("ERROR: disk full"). using (matchesPattern("disk\\s+full")). shouldReturn (true);
+    testOf ("ERROR: disk full"). using (matchesPattern("^disk")). shouldReturn (false);
+    testOf ("ERROR: disk full"). using (matches(Pattern.compile("ERROR|WARN"))). shouldReturn (true);
+    testOf ((String) null). using (matchesPattern("disk")). shouldReturn (false);
+
+    testOf ("2024-01-02 ERROR E1042 disk full"). using (matchesWith("(?<level>[A-Z]+) (?<code>E\\d+)").group("level", "ERROR").group("code", startsWith("E10"))). shouldReturn (true);
+    testOf ("2024-01-02 ERROR E1042 disk full"). using (matchesWith("(?<level>[A-Z]+) (?<code>E\\d+)").group("level", "WARN").group("code", startsWith("E10"))). shouldReturn (false);
+    testOf ("2024-01-02 INFO started"). using (matchesWith("(?<level>[A-Z]+) (?<code>E\\d+)").group("level", "ERROR")). shouldReturn (false);
+    testOf ("key=value"). using (matchesWith("(\\w+)=(\\w*)").group(1, equalTo("key")).group(2, not(emptyString()))). shouldReturn (true);
+    testOf ("key=value"). using (matchesWith("(\\w+)=(\\w*)").group("missing", "key")). shouldReturn (false);
+
+    assertOf ("2024-01-02 ERROR E1042 disk full").
+            using (matchesWith("(?<level>[A-Z]+) (?<code>E\\d+)").group("level", "WARN").group("code", startsWith("E10"))).
+            shouldFailWith ("expected: (group level <WARN>, group code starts with <E10>) but was: 2024-01-02 ERROR E1042 disk full\n" +
+                    "\t+ expected: group level <WARN> but was: <ERROR>");
+
+    assertOf ("ERROR: disk full").
+            using (allOf(contains("ERROR"), contains("memory"))).
+            shouldFailWith ("expected: (contains ERROR and contains memory) but was: ERROR: disk full\n" +
+                    "\t+ expected: contains memory but was: <ERROR: disk full>");
+
+}}
@@ -0,0 +1,44 @@
+package fluent.validation.tests;
+
+import fluent.validation.utils.Requirements;
+
+import java.nio.ByteBuffer;
+
+import static fluent.validation.BasicChecks.equalTo;
+import static fluent.validation.Utf8Checks.*;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+public class Utf8CheckRequirementsTest extends Requirements {{
+
+    testOf (utf8("Žluťoučký kůň")). using (utf8StartsWith("Žluť")). shouldReturn (true);
+    testOf (utf8("Žluťoučký kůň")). using (utf8StartsWith("kůň")). shouldReturn (false);
+    testOf (utf8("Žluťoučký kůň")). using (utf8EndsWith("kůň")). shouldReturn (true);
+    testOf (utf8("Žluťoučký kůň")). using (utf8EndsWith("Žluť")). shouldReturn (false);
+    testOf (utf8("Žluťoučký kůň")). using (utf8Contains("čký k")). shouldReturn (true);
+    testOf (utf8("Žluťoučký kůň")). using (utf8Contains("kun")). shouldReturn (false);
+    testOf (utf8("Žluťoučký kůň")). using (utf8EqualTo("Žluťoučký kůň")). shouldReturn (true);
+    testOf (utf8("Žluťoučký kůň")). using (utf8EqualTo("Žluťoučký")). shouldReturn (false);
+    testOf (utf8("Žluťoučký kůň")). using (utf8Length(equalTo(13))). shouldReturn (true);
+    testOf (utf8("😀!")). using (utf8Length(equalTo(2))). shouldReturn (true);
+    testOf ((ByteBuffer) null). using (utf8Contains("kůň")). shouldReturn (false);
+
+    testOf (slice("[Žluťoučký kůň]")). using (utf8StartsWith("Žluť")). shouldReturn (true);
+    testOf (slice("[Žluťoučký kůň]")). using (utf8EndsWith("kůň")). shouldReturn (true);
+    testOf (slice("[Žluťoučký kůň]")). using (utf8Contains("]")). shouldReturn (false);
+
+    testOf ("Žluťoučký kůň".getBytes(UTF_8)). using (utf8Bytes(utf8Contains("kůň"))). shouldReturn (true);
+    testOf ("Žluťoučký kůň".getBytes(UTF_8)). using (utf8Bytes(utf8StartsWith("kůň"))). shouldReturn (false);
+
+}
+
+    private static ByteBuffer utf8(String value) {
+        return ByteBuffer.wrap(value.getBytes(UTF_8));
+    }
+
+    private static ByteBuffer slice(String value) {
+        ByteBuffer buffer = utf8(value);
+        buffer.position(1).limit(buffer.limit() - 1);
+        return buffer;
+    }
+
+}
@@ -32,9 +32,12 @@ package fluent.validation.tests;
 import fluent.validation.Assert;
 import fluent.validation.AssertionFailure;
 import fluent.validation.Checks;
+import fluent.validation.ConcurrentValue;
 import fluent.validation.Value;
 import org.testng.annotations.Test;
 
+import java.util.stream.IntStream;
+
 import static fluent.validation.Checks.*;
 import static fluent.validation.Items.items;
 
@@ -87,4 +90,37 @@ public class ValueTest {
         Assert.that(value.getAll(), collection(equalTo(items("A", "B"))));
     }
 
+    @Test
+    public void testConcurrentValueFromParallelStream() {
+        ConcurrentValue<Integer> value = concurrentValue();
+        IntStream.range(0, 1000).boxed().parallel().forEach(i -> Assert.that(i, value.storeWhen(isNotNull())));
+        Assert.that(value.getAll().size(), equalTo(1000));
+        Assert.that(value.getAll(), collection(equalInAnyOrderTo(items(IntStream.range(0, 1000).boxed().toArray(Integer[]::new)))));
+    }
+
+    @Test
+    public void testConcurrentValueKeepingFirst() {
+        ConcurrentValue<String> value = concurrentValueKeepingFirst(2);
+        Assert.that("A", value.storeWhen(isNotNull()));
+        Assert.that("B", value.storeWhen(isNotNull()));
+        Assert.that("C", value.storeWhen(isNotNull()));
+        Assert.that(value.get(), equalTo("C"));
+        Assert.that(value, collection(equalTo(items("A", "B"))));
+    }
+
+    @Test
+    public void testConcurrentValueKeepingLast() {
+        ConcurrentValue<String> value = concurrentValueKeepingLast(2);
+        Assert.that("A", value.storeWhen(isNotNull()));
+        Assert.that("B", value.storeWhen(isNotNull()));
+        Assert.that("C", value.storeWhen(isNotNull()));
+        Assert.that(value.get(), equalTo("C"));
+        Assert.that(value, collection(equalTo(items("B", "C"))));
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testNotStoredConcurrentValue() {
+        concurrentValue().get();
+    }
+
 }
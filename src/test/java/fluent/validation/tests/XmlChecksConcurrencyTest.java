@@ -0,0 +1,31 @@
+package fluent.validation.tests;
+
+import fluent.validation.Check;
+import org.testng.annotations.Test;
+
+import java.util.stream.IntStream;
+
+import static fluent.validation.XmlChecks.matchesXPath;
+import static fluent.validation.XmlChecks.parseXml;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+public class XmlChecksConcurrencyTest {
+
+    @Test
+    public void testChecksSharedByParallelThreads() {
+        Check<String> matches = parseXml(matchesXPath("/root/item[@id]"));
+        assertTrue(IntStream.range(0, 2000).parallel().allMatch(i -> {
+            String xml = "<root><item id='" + i + "'>" + i + "</item></root>";
+            return Check.that(xml, matches) && Check.that(xml, parseXml(matchesXPath("/root/item[text() = '" + i + "']")));
+        }));
+    }
+
+    @Test
+    public void testInvalidXPathReportedOnCreation() {
+        expectThrows(IllegalArgumentException.class, () -> {
+            Check<Object> invalid = matchesXPath("/root[");
+        });
+    }
+
+}
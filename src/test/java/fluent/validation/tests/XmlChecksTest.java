@@ -2,6 +2,7 @@ package fluent.validation.tests;
 
 import fluent.validation.utils.Requirements;
 
+import static fluent.validation.BasicChecks.allOf;
 import static fluent.validation.XmlChecks.parseXml;
 import static fluent.validation.XmlChecks.matchesXPath;
 
@@ -10,4 +11,7 @@ public class XmlChecksTest extends Requirements {{
     testOf ("<root></root>"). using (parseXml(matchesXPath("/root")) ). shouldReturn (true );
     testOf ("<root></root>"). using (parseXml(matchesXPath("/other"))). shouldReturn (false);
 
+    testOf ("<root><a/></root>"). using (parseXml(allOf(matchesXPath("/root"), matchesXPath("/root/a")))). shouldReturn (true );
+    testOf ("<root><a/></root>"). using (parseXml(allOf(matchesXPath("/root"), matchesXPath("/root/b")))). shouldReturn (false);
+
 }}
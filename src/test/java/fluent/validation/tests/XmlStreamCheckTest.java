@@ -0,0 +1,85 @@
+package fluent.validation.tests;
+
+import fluent.validation.Check;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static fluent.validation.BasicChecks.is;
+import static fluent.validation.CollectionChecks.*;
+import static fluent.validation.Items.items;
+import static fluent.validation.XmlChecks.loadXmlStream;
+import static fluent.validation.XmlChecks.parseXmlStream;
+import static java.util.Arrays.asList;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class XmlStreamCheckTest {
+
+    private static final String FEED = "<feed>" +
+            "<entry type='order' id='1'><price>10</price></entry>" +
+            "<entry type='refund' id='2'><price>5</price></entry>" +
+            "<group><entry type='order' id='3'><price>7</price></entry></group>" +
+            "</feed>";
+
+    @Test
+    public void testAttributeOfChildStepsWithPredicate() {
+        assertTrue(Check.that(FEED, parseXmlStream("/feed/entry[@type='order']/@id", equalTo(items("1")))));
+    }
+
+    @Test
+    public void testTextContentOfDescendants() {
+        assertTrue(Check.that(FEED, parseXmlStream("//entry[@type='order']/price", equalTo(items("10", "7")))));
+        assertTrue(Check.that(FEED, parseXmlStream("//entry", equalTo(items("10", "5", "7")))));
+    }
+
+    @Test
+    public void testEveryItemFails() {
+        assertFalse(Check.that(FEED, parseXmlStream("//entry/@type", everyItem(is("order")))));
+    }
+
+    @Test
+    public void testDirectText() {
+        assertTrue(Check.that("<a>x<b>y</b>z</a>", parseXmlStream("/a/text()", equalTo(items("x", "z")))));
+        assertTrue(Check.that("<a>x<b>y</b>z</a>", parseXmlStream("/a", equalTo(items("xyz")))));
+    }
+
+    @Test
+    public void testNoDirectTextSelectsNothing() {
+        assertTrue(Check.that("<a><b>y</b></a>", parseXmlStream("/a/text()", equalTo(items()))));
+        assertTrue(Check.that("<a>x<![CDATA[y]]><!--c-->z</a>", parseXmlStream("/a/text()", equalTo(items("xy", "z")))));
+    }
+
+    @Test
+    public void testNestedMatchesInDocumentOrder() {
+        String xml = "<a id='1'>x<a id='2'>y</a><a id='3'>z<a id='4'/></a></a>";
+        assertTrue(Check.that(xml, parseXmlStream("//a", equalTo(items("xyz", "y", "z", "")))));
+        assertTrue(Check.that(xml, parseXmlStream("//a/@id", equalTo(items("1", "2", "3", "4")))));
+        assertTrue(Check.that(xml, parseXmlStream("//a/text()", equalTo(items("x", "y", "z")))));
+    }
+
+    @Test
+    public void testReadingStopsWhenDecided() {
+        assertTrue(Check.that("<feed><entry id='1'/><entry id='2'/><broken", parseXmlStream("//entry/@id", existsItem(is("1")))));
+        assertFalse(Check.that("<feed><entry id='1'/><entry id='2'/><broken", parseXmlStream("//entry/@id", existsItem(is("3")))));
+    }
+
+    @Test
+    public void testLoadFromFile() throws IOException {
+        Path file = Files.createTempFile("feed", ".xml");
+        try {
+            Files.write(file, asList(FEED));
+            assertTrue(Check.that(file.toString(), loadXmlStream("//price", contains(items("5", "7")))));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testUnsupportedXPath() {
+        Check.that(FEED, parseXmlStream("/feed/entry[price > 5]", existsItem(is("1"))));
+    }
+
+}